@@ -0,0 +1,80 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ Positions taken from rounds between two computer players, shared by the benchmarks that look at
+ a player's hand. Each round is played for a random number of moves, and the position is kept only
+ if the player to move can place a tile. Benchmarks go through the positions one after the other,
+ so the JIT can't fold a single position into a constant.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkPositions {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final int NUM_POSITIONS = 1024;
+
+    // Same positions on every run, so results can be compared with a baseline
+    private static final long SEED = 20261017L;
+    private static final int MAX_MOVES_PLAYED = 24;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    Player [] m_players;
+    Table [] m_tables;
+    String [] m_sides;
+    boolean [] m_opponentPassed;
+    Round [] m_rounds;
+    Position [] m_positions;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        m_players = new Player[NUM_POSITIONS];
+        m_tables = new Table[NUM_POSITIONS];
+        m_sides = new String[NUM_POSITIONS];
+        m_opponentPassed = new boolean[NUM_POSITIONS];
+        m_rounds = new Round[NUM_POSITIONS];
+        m_positions = new Position[NUM_POSITIONS];
+
+        Random random = new Random( SEED );
+        int count = 0;
+
+        while( count < NUM_POSITIONS ){
+            Round round = new Round( random.nextInt(Tile.MAX_VALUE_OF_A_STONE + 1) + 1, 0, 0,
+                    new Computer(Player.LEFT), new Computer(Player.RIGHT) );
+            round.setUpRound();
+            while( !round.aPlayerHasEngine() && !round.getStock().isEmpty() )
+                round.drawATileEach();
+            round.placeEngine();
+
+            int moves = random.nextInt( MAX_MOVES_PLAYED );
+            for(int i = 0; i < moves && !round.endRound(); i++)
+                round.makeMove( round.getWhoIsPlaying() );
+
+            if( round.endRound() )
+                continue;
+
+            Player player = round.getWhoIsPlaying();
+            Player opponent = player == round.getHuman()? round.getComputer(): round.getHuman();
+
+            if( !player.canPlaceTiles( round.getTable(), player.getSide(), opponent.hasPassed() ) )
+                continue;
+
+            m_players[count] = player;
+            m_tables[count] = round.getTable();
+            m_sides[count] = player.getSide();
+            m_opponentPassed[count] = opponent.hasPassed();
+            m_rounds[count] = round;
+            m_positions[count] = new Position( player, round.getTable(), opponent.hasPassed(), round.getStock().isEmpty() );
+            count++;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ Runs the benchmarks of the game core with the GC profiler, which reports the bytes allocated per
+ operation (gc.alloc.rate.norm) next to the time per operation. The results are also written as
+ JSON, so a run before a change can be kept as the baseline of the run after it.
+
+ Usage: BenchmarkRunner [benchmark name pattern] [result file]
+
+ It is the same as running org.openjdk.jmh.Main with -prof gc -rf json -rff <result file>.
+ */
+public class BenchmarkRunner {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    private static final String DEFAULT_PATTERN = BenchmarkRunner.class.getPackage().getName() + ".*Benchmark";
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main( String [] args ) throws RunnerException {
+        String pattern = args.length > 0? args[0]: DEFAULT_PATTERN;
+        String resultFile = args.length > 1? args[1]: DEFAULT_RESULT_FILE;
+
+        Options options = new OptionsBuilder()
+                .include( pattern )
+                .addProfiler( GCProfiler.class )
+                .resultFormat( ResultFormatType.JSON )
+                .result( resultFile )
+                .build();
+
+        new Runner( options ).run();
+    }
+}
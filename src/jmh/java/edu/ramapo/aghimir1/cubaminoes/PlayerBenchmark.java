@@ -0,0 +1,57 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ The checks a computer player makes before every move: whether any tile fits the table, and which
+ tile the greedy strategy picks, through Player (which uses the shared GreedyDecisionTable), as a
+ GreedyStrategy on a Position and as a lookup in a GreedyDecisionTable
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    private int m_next;
+    private GreedyDecisionTable m_table = new GreedyDecisionTable();
+
+    private int nextPosition(){
+        m_next = (m_next + 1) & (BenchmarkPositions.NUM_POSITIONS - 1);
+        return m_next;
+    }
+
+    @Benchmark
+    public boolean canPlaceTiles( BenchmarkPositions a_positions ){
+        int i = nextPosition();
+        return a_positions.m_players[i].canPlaceTiles( a_positions.m_tables[i], a_positions.m_sides[i], a_positions.m_opponentPassed[i] );
+    }
+
+    @Benchmark
+    public int getOptimalTile( BenchmarkPositions a_positions ){
+        int i = nextPosition();
+        return a_positions.m_players[i].getOptimalTile( a_positions.m_tables[i], a_positions.m_opponentPassed[i], a_positions.m_sides[i] );
+    }
+
+    @Benchmark
+    public int greedyStrategy( BenchmarkPositions a_positions ){
+        return GreedyStrategy.INSTANCE.chooseMove( a_positions.m_positions[nextPosition()] );
+    }
+
+    @Benchmark
+    public int greedyDecisionTable( BenchmarkPositions a_positions ){
+        return m_table.chooseMove( a_positions.m_positions[nextPosition()] );
+    }
+}
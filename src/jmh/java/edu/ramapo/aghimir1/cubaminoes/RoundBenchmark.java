@@ -0,0 +1,49 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ A whole round between two greedy computer players, from the deal to the end, the way Simulator
+ plays it
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+
+    private Player m_left;
+    private Player m_right;
+    private SimulationStats m_stats;
+    private int m_roundNumber;
+
+    @Setup
+    public void setUp(){
+        m_left = new Computer( Player.LEFT );
+        m_right = new Computer( Player.RIGHT );
+        m_stats = new SimulationStats();
+    }
+
+    @Benchmark
+    public boolean selfPlayRound(){
+        m_left.resetForNewRound();
+        m_right.resetForNewRound();
+
+        // Go through all engines, like Simulator.simulate
+        m_roundNumber = m_roundNumber % (Tile.MAX_VALUE_OF_A_STONE + 1) + 1;
+        return Simulator.playRound( new Round(m_roundNumber, 0, 0, m_left, m_right), m_stats );
+    }
+}
@@ -0,0 +1,80 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ Saving a tournament and loading it back, as the text save file of Round.saveGame and
+ Tournament.loadTournament, and as a TournamentSnapshot for comparison
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveLoadBenchmark {
+
+    private Tournament m_tournament;
+    private File m_textFile;
+    private File m_snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        m_tournament = new Tournament( 200 );
+        Round round = m_tournament.getCurrentRound();
+
+        round.setUpRound();
+        while( !round.aPlayerHasEngine() )
+            round.drawATileEach();
+        round.placeEngine();
+
+        // A few moves in, so both sides of the table have tiles
+        int [] moves = new int[MoveGenerator.MAX_MOVES];
+        for(int i = 0; i < 6; i++){
+            if( round.getGameState().generateMoves( moves ) == 0 )
+                break;
+            round.applyMove( moves[0] );
+        }
+
+        m_textFile = File.createTempFile( "cubaminoes", ".txt" );
+        m_snapshotFile = File.createTempFile( "cubaminoes", TournamentSnapshot.FILE_EXTENSION );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        m_textFile.delete();
+        m_snapshotFile.delete();
+    }
+
+    @Benchmark
+    public Tournament textRoundTrip() throws IOException {
+        m_tournament.getCurrentRound().saveGame( m_tournament.getTournamentScore(), m_textFile.getPath() );
+        return new Tournament( m_textFile.getPath() );
+    }
+
+    @Benchmark
+    public Tournament snapshotRoundTrip() throws IOException {
+        TournamentSnapshot.save( m_tournament, m_snapshotFile.getPath() );
+        return TournamentSnapshot.load( m_snapshotFile.getPath() );
+    }
+
+    @Benchmark
+    public Tournament snapshotInMemory() throws IOException {
+        return TournamentSnapshot.read( TournamentSnapshot.write(m_tournament) );
+    }
+}
@@ -0,0 +1,61 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Building a side of the table: every operation lays a chain of tiles on an empty side, half of
+ which have to be flipped to fit
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SideBenchmark {
+
+    private Tile [] m_chain;
+
+    @Setup
+    public void setUp(){
+        // 6-5, 5-4, ... 1-0 laid from an open 6, then the doubles 0-0 and a tile that does not fit
+        m_chain = new Tile[Tile.MAX_VALUE_OF_A_STONE + 2];
+        for(int i = 0; i < Tile.MAX_VALUE_OF_A_STONE; i++){
+            int high = Tile.MAX_VALUE_OF_A_STONE - i;
+            m_chain[i] = i % 2 == 0? Tile.valueOf( high, high - 1 ): Tile.valueOf( high - 1, high );
+        }
+        m_chain[Tile.MAX_VALUE_OF_A_STONE] = Tile.valueOf( 0, 0 );
+        m_chain[Tile.MAX_VALUE_OF_A_STONE + 1] = Tile.valueOf( 6, 6 );
+    }
+
+    private Side layChain( String a_sideString ){
+        Side side = new Side( a_sideString );
+        side.setOpenStone( Tile.MAX_VALUE_OF_A_STONE );
+
+        for(Tile i: m_chain)
+            side.addTile( i );
+
+        return side;
+    }
+
+    @Benchmark
+    public Side addTileRight(){
+        return layChain( Player.RIGHT );
+    }
+
+    @Benchmark
+    public Side addTileLeft(){
+        return layChain( Player.LEFT );
+    }
+}
@@ -0,0 +1,196 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ Saves a tournament to a file without blocking the thread that asks for the save. The caller's
+ thread only takes a TournamentSnapshot, which is a few dozen bytes that no later move can change.
+ One background thread writes the snapshots to the file. A service can also keep a copy of the
+ save in the text format of Round.saveGame, rendered on the caller's thread and written along with
+ the snapshot, so that the text file stays available for export and for SaveGameImporter.
+
+ A save that has not started when another one is asked for is dropped, since the newer snapshot
+ replaces it anyway. Its callback is told that it was superseded. The file is written to a
+ temporary file first and then renamed, so it always holds a complete save. The same goes for the
+ text file.
+ */
+public class AsyncSaveService {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Results given to a SaveCallback
+    public static final int SAVED = 0;
+    public static final int SUPERSEDED = 1;
+    public static final int FAILED = 2;
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final Charset TEXT_CHARSET = Charset.forName( "UTF-8" );
+
+    /**
+     Told how a save ended. Called on the service's background thread, except for a SUPERSEDED
+     save, which is told on the thread that asked for the newer save
+     */
+    public interface SaveCallback {
+
+        /**
+         @param a_result SAVED, SUPERSEDED or FAILED
+         @param a_error the reason of a FAILED save, null otherwise
+         */
+        void saveFinished( int a_result, IOException a_error );
+    }
+
+    // A snapshot waiting to be written
+    private static final class PendingSave {
+        private final byte [] m_snapshot;
+        private final byte [] m_text;    // The save in the text format, or null
+        private final SaveCallback m_callback;
+
+        PendingSave( byte [] a_snapshot, byte [] a_text, SaveCallback a_callback ){
+            m_snapshot = a_snapshot;
+            m_text = a_text;
+            m_callback = a_callback;
+        }
+    }
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final File m_file;
+    private final File m_textFile;     // null if no text copy is kept
+    private final ExecutorService m_executor;
+    private final AtomicReference<PendingSave> m_pending;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public AsyncSaveService( String a_fileName ){
+        this( a_fileName, null );
+    }
+
+    /**
+     @param a_fileName absolute path of the snapshot file
+     @param a_textFileName absolute path of the text copy of the save, or null for none
+     */
+    public AsyncSaveService( String a_fileName, String a_textFileName ){
+        m_file = new File( a_fileName );
+        m_textFile = a_textFileName == null? null: new File( a_textFileName );
+        m_pending = new AtomicReference<>();
+        m_executor = Executors.newSingleThreadExecutor( new ThreadFactory() {
+            @Override
+            public Thread newThread( Runnable a_runnable ){
+                Thread thread = new Thread( a_runnable, "AsyncSaveService" );
+                thread.setDaemon( true );
+                return thread;
+            }
+        } );
+    }
+
+    /**/
+    /*
+    save
+
+    NAME
+
+        save - Save a tournament in the background
+
+    SYNOPSIS
+
+        public void save( Tournament a_tournament, SaveCallback a_callback )
+            a_tournament - the tournament to save, as it is at the time of the call
+            a_callback - told when the save ends, or null
+
+    DESCRIPTION
+
+        Take a snapshot of the tournament on the calling thread, along with its text if the
+        service keeps a text copy, and make it the pending save.
+        A background write is only started if there was no pending save. Otherwise the write that
+        is already queued will pick up this snapshot instead of the older one
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void save( Tournament a_tournament, SaveCallback a_callback ){
+        byte [] text = null;
+        if( m_textFile != null )
+            text = a_tournament.getCurrentRound().getSaveText( a_tournament.getTournamentScore() ).getBytes( TEXT_CHARSET );
+
+        PendingSave save = new PendingSave( TournamentSnapshot.write( a_tournament ), text, a_callback );
+        PendingSave superseded = m_pending.getAndSet( save );
+
+        if( superseded == null ){
+            m_executor.execute( new Runnable() {
+                @Override
+                public void run(){
+                    writePending();
+                }
+            } );
+        }
+        else if( superseded.m_callback != null ){
+            superseded.m_callback.saveFinished( SUPERSEDED, null );
+        }
+    }
+
+    // Write the latest pending snapshot, if a newer write has not taken it already
+    private void writePending(){
+        PendingSave save = m_pending.getAndSet( null );
+        if( save == null )
+            return;
+
+        int result = SAVED;
+        IOException error = null;
+
+        try{
+            write( m_file, save.m_snapshot );
+            if( save.m_text != null )
+                write( m_textFile, save.m_text );
+        }
+        catch( IOException e ){
+            result = FAILED;
+            error = e;
+        }
+
+        if( save.m_callback != null )
+            save.m_callback.saveFinished( result, error );
+    }
+
+    private static void write( File a_file, byte [] a_bytes ) throws IOException {
+        File temporary = new File( a_file.getPath() + TEMPORARY_SUFFIX );
+
+        FileOutputStream out = new FileOutputStream( temporary );
+        try{
+            out.write( a_bytes );
+            out.getFD().sync();
+        }
+        finally{
+            out.close();
+        }
+
+        if( !temporary.renameTo( a_file ) )
+            throw new IOException( "Could not replace " + a_file );
+    }
+
+    /**
+     Stop the background thread once the pending save, if any, is written
+     */
+    public void shutdown(){
+        m_executor.shutdown();
+    }
+}
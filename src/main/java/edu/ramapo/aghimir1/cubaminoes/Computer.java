@@ -8,6 +8,18 @@ public class Computer extends Player implements Serializable {
 
     private static String COMPUTER_STRING = "Computer";
 
+    // Strategies a tournament can be created with
+    public static final int GREEDY_STRATEGY = 0;
+    public static final int MCTS_STRATEGY = 1;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private boolean m_useEndgameSolver = true;
+    private long m_endgameNodeBudget = EndgameSolver.NO_NODE_BUDGET;
+    protected int m_plannedMove = Move.NONE; // Placement chosen ahead of selectTile and selectSide
+    private transient EndgameSolver m_endgameSolver; // Created when it is first needed
+
     /* *********************************************
     Constructors - initialize any Computer object
     ********************************************* */
@@ -21,6 +33,66 @@ public class Computer extends Player implements Serializable {
         m_side = RIGHT;
     }
 
+    // Lets the computer strategy play on the left side of the table, e.g. in computer vs computer
+    // simulations
+    Computer(String a_side){
+        super();
+        m_side = a_side;
+    }
+
+    /**
+     Create the computer player of a tournament
+     @param a_strategy GREEDY_STRATEGY or MCTS_STRATEGY
+     @return a Computer that plays on the right side with the given strategy. The search computer
+     uses every core of the device
+     */
+    public static Computer create( int a_strategy ){
+        if( a_strategy == MCTS_STRATEGY ){
+            MctsComputer computer = new MctsComputer( RIGHT );
+            int cores = Runtime.getRuntime().availableProcessors();
+
+            if( cores > 1 )
+                computer.setParallelSearch( ParallelMonteCarloSearch.TREE_PARALLEL, cores,
+                        MonteCarloSearch.DEFAULT_PLAYOUTS, ParallelMonteCarloSearch.NO_TIME_BUDGET );
+            return computer;
+        }
+
+        return new Computer();
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public boolean isEndgameSolverEnabled(){
+        return m_useEndgameSolver;
+    }
+
+    public long getEndgameNodeBudget(){
+        return m_endgameNodeBudget;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+
+    // With the solver off, the computer keeps playing its usual strategy once the stock is empty
+    public void setEndgameSolverEnabled( boolean a_enabled ){
+        m_useEndgameSolver = a_enabled;
+    }
+
+    /**
+     Stop the endgame solver after a number of nodes instead of after its time budget, so that the
+     computer plays the same moves on any device and under any load
+     @param a_nodeBudget nodes a search may visit, or EndgameSolver.NO_NODE_BUDGET for the time
+     budget
+     */
+    public void setEndgameNodeBudget( long a_nodeBudget ){
+        if( a_nodeBudget != m_endgameNodeBudget )
+            m_endgameSolver = null;
+
+        m_endgameNodeBudget = a_nodeBudget;
+    }
+
 
     /**/
     /*
@@ -79,7 +151,9 @@ public class Computer extends Player implements Serializable {
     DESCRIPTION
 
         Get the optimal move option out of UserInput.PLACE_TILE, UserInput.PASS and
-        UserInput.DRAW_TILE
+        UserInput.DRAW_TILE. If the computer is going to place a tile and the stock is empty, the
+        endgame solver searches the rest of the round and the placement it finds is kept for
+        selectTile and selectSide
 
     RETURNS
 
@@ -95,7 +169,61 @@ public class Computer extends Player implements Serializable {
 
     */
     public int getMoveOption( Table a_table, String a_playersSide, boolean a_opponentPassed, boolean a_stockEmpty ){
-        return getOptimalMoveOption( a_table, a_playersSide, a_opponentPassed, a_stockEmpty );
+        int moveOption = getOptimalMoveOption( a_table, a_playersSide, a_opponentPassed, a_stockEmpty );
+
+        m_plannedMove = Move.NONE;
+        if( moveOption == UserInput.PLACE_TILE && a_stockEmpty && m_useEndgameSolver )
+            m_plannedMove = solveEndgame( a_table, a_opponentPassed );
+
+        return moveOption;
+    }
+
+
+    /**/
+    /*
+    solveEndgame
+
+    NAME
+
+        solveEndgame - Find the best placement of a turn when the stock is empty
+
+    SYNOPSIS
+
+        private int solveEndgame( Table a_table, boolean a_opponentPassed )
+            a_table - reference to the game table
+            a_opponentPassed - This variable tells if the opponent player passed in his previous turn
+
+    DESCRIPTION
+
+        With the stock empty, the opponent's hand is every tile that is neither in the computer's
+        hand nor on the table, so the rest of the round can be searched exactly. The table has to
+        know its engine for this to hold, so nothing is searched before the engine is placed
+
+    RETURNS
+
+        The placement found by the solver as a Move, or Move.NONE if the greedy strategy should be
+        used instead
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    private int solveEndgame( Table a_table, boolean a_opponentPassed ){
+        if( a_table.getEngine() == null )
+            return Move.NONE;
+
+        if( m_endgameSolver == null )
+            m_endgameSolver = new EndgameSolver( EndgameSolver.DEFAULT_TIME_BUDGET_NANOS, m_endgameNodeBudget );
+
+        long opponentHand = TileSet.ALL & ~m_handMask & ~a_table.getPlacedMask();
+
+        return m_endgameSolver.solve( m_handMask, opponentHand, a_table.getLeftSide().getOpenStone(),
+                a_table.getRightSide().getOpenStone(), getSideIndex(), a_opponentPassed );
     }
 
 
@@ -133,7 +261,15 @@ public class Computer extends Player implements Serializable {
 
     */
     public int selectTile( Table a_table, boolean a_opponentHasPassed ){
-        return getOptimalTile( a_table, a_opponentHasPassed, Player.RIGHT );
+        if( Move.isPlacement( m_plannedMove ) ){
+            int tileIndex = getIndexOfTileId( Move.getTileId(m_plannedMove) );
+            if( tileIndex != Tile.UNDEFINED_STONE )
+                return tileIndex;
+
+            m_plannedMove = Move.NONE;
+        }
+
+        return getOptimalTile( a_table, a_opponentHasPassed, m_side );
     }
 
 
@@ -177,6 +313,12 @@ public class Computer extends Player implements Serializable {
 
     */
     public String selectSide( Table a_table, String playersSide, Tile tileChosen, boolean opponentHasPassed ){
+        if( Move.isPlacement( m_plannedMove ) ){
+            String side = Move.getSideString( m_plannedMove );
+            m_plannedMove = Move.NONE;
+            return side;
+        }
+
         return getOptimaSide();
     }
 
@@ -0,0 +1,177 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ Compares two strategies with duplicate deals. Every deal is played twice from the same seed, so
+ the stock is shuffled the same way both times: once with the first strategy on the left and the
+ second on the right, and once with the seats swapped. Round deals the hands by seat, so each
+ strategy plays both hands of the deal, and the luck of the deal cancels out of the paired result.
+ */
+public class DuplicateSimulator {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Largest range of deals one thread plays
+    private static final long DEALS_PER_TASK = 64;
+    private static final long DEFAULT_DEALS = 20000;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private PlayerFactory m_firstFactory;
+    private PlayerFactory m_secondFactory;
+    private long m_seed;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    DuplicateSimulator( PlayerFactory a_firstFactory, PlayerFactory a_secondFactory, long a_seed ){
+        m_firstFactory = a_firstFactory;
+        m_secondFactory = a_secondFactory;
+        m_seed = a_seed;
+    }
+
+    /**/
+    /*
+    simulate
+
+    NAME
+
+        simulate - Play a number of duplicate deals on all the threads of a ForkJoinPool
+
+    SYNOPSIS
+
+        public DuplicateStats simulate( long a_numDeals, ForkJoinPool a_pool )
+            a_numDeals - number of deals. Every deal is played twice
+            a_pool - the pool whose threads play the deals
+
+    DESCRIPTION
+
+        Split the deals with a RangeTask the way ParallelSimulator splits tournaments, splitting
+        the random number generator along with the range. Every deal gets its seed from its
+        range's generator, so a seed gives the same deals on any number of threads. It gives the
+        same results as well if the players don't depend on the clock, e.g. computers whose
+        endgame solver has a node budget rather than a time budget
+
+    RETURNS
+
+        The merged results of all the deals, including the wall clock time it took to play them
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public DuplicateStats simulate( long a_numDeals, ForkJoinPool a_pool ){
+        long start = System.nanoTime();
+
+        RangeTask.Body<DuplicateStats> body = new RangeTask.Body<DuplicateStats>() {
+            @Override
+            public DuplicateStats computeRange( long a_first, long a_last, SplittableRandom a_random ){
+                return playDeals( a_first, a_last, a_random );
+            }
+
+            @Override
+            public void merge( DuplicateStats a_result, DuplicateStats a_other ){
+                a_result.merge( a_other );
+            }
+        };
+        DuplicateStats stats = a_pool.invoke( new RangeTask<>( body, 0, a_numDeals, DEALS_PER_TASK, new SplittableRandom(m_seed) ) );
+
+        stats.addElapsedNanos( System.nanoTime() - start );
+        return stats;
+    }
+
+    // Play the deals numbered from a_first (inclusive) to a_last (exclusive) on the calling thread.
+    // Each strategy has a player for each seat, all created for this range
+    private DuplicateStats playDeals( long a_first, long a_last, SplittableRandom a_random ){
+        DuplicateStats stats = new DuplicateStats();
+        Player firstLeft = m_firstFactory.createPlayer( Player.LEFT );
+        Player firstRight = m_firstFactory.createPlayer( Player.RIGHT );
+        Player secondLeft = m_secondFactory.createPlayer( Player.LEFT );
+        Player secondRight = m_secondFactory.createPlayer( Player.RIGHT );
+        SimulationStats roundStats = new SimulationStats();
+
+        for(long i = a_first; i < a_last; i++){
+            long dealSeed = a_random.nextLong();
+
+            // The round number decides the engine, so the deals cycle through all engines
+            int roundNumber = (int) (i % (Tile.MAX_VALUE_OF_A_STONE + 1)) + 1;
+
+            Round dealt = playRound( roundNumber, dealSeed, firstLeft, secondRight, roundStats );
+            Round swapped = dealt == null? null: playRound( roundNumber, dealSeed, secondLeft, firstRight, roundStats );
+
+            if( swapped == null ){
+                stats.recordFailedDeal();
+                continue;
+            }
+
+            stats.recordRound( winnerOf( dealt, firstLeft ) );
+            stats.recordRound( winnerOf( swapped, firstRight ) );
+            stats.recordDeal( firstLeft.getScore() - secondRight.getScore(),
+                    firstRight.getScore() - secondLeft.getScore() );
+        }
+
+        return stats;
+    }
+
+    // The round, once it is over, or null if it failed
+    private static Round playRound( int a_roundNumber, long a_dealSeed, Player a_left, Player a_right, SimulationStats a_roundStats ){
+        a_left.resetForNewRound();
+        a_right.resetForNewRound();
+
+        Round round = new Round( a_roundNumber, 0, 0, a_left, a_right, new SplittableRandom(a_dealSeed) );
+        return Simulator.playRound( round, a_roundStats )? round: null;
+    }
+
+    private static int winnerOf( Round a_round, Player a_firstStrategyPlayer ){
+        Player winner = a_round.getWinner();
+
+        if( winner == null )
+            return DuplicateStats.TIE;
+
+        return winner == a_firstStrategyPlayer? DuplicateStats.FIRST: DuplicateStats.SECOND;
+    }
+
+    // Usage: DuplicateSimulator [number of deals] [number of threads] [seed]
+    // Compares the greedy computer with its endgame solver (first) and without it (second)
+    public static void main( String [] args ){
+        long deals = args.length > 0? Long.parseLong( args[0] ): DEFAULT_DEALS;
+        int threads = args.length > 1? Integer.parseInt( args[1] ): Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2? Long.parseLong( args[2] ): new SplittableRandom().nextLong();
+
+        PlayerFactory withSolver = new PlayerFactory() {
+            @Override
+            public Player createPlayer( String a_side ){
+                Computer computer = new Computer( a_side );
+                computer.setEndgameNodeBudget( Simulator.ENDGAME_NODE_BUDGET );
+                return computer;
+            }
+        };
+
+        PlayerFactory withoutSolver = new PlayerFactory() {
+            @Override
+            public Player createPlayer( String a_side ){
+                Computer computer = new Computer( a_side );
+                computer.setEndgameSolverEnabled( false );
+                return computer;
+            }
+        };
+
+        DuplicateSimulator simulator = new DuplicateSimulator( withSolver, withoutSolver, seed );
+        ForkJoinPool pool = new ForkJoinPool( threads );
+        DuplicateStats stats = simulator.simulate( deals, pool );
+        pool.shutdown();
+
+        System.out.println( "Threads: " + threads );
+        System.out.println( "Seed: " + seed );
+        System.out.print( stats );
+    }
+}
@@ -0,0 +1,176 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.Locale;
+
+/**
+ Results of a DuplicateSimulator run comparing a first and a second strategy. Every deal is played
+ twice, once with the first strategy on the left and once with it on the right, and its result is
+ the pair of point margins of the first strategy over the second:
+
+   margin = points of the first strategy - points of the second strategy, in one round
+
+ The mean margin per round is estimated twice: from the sums of the pairs, which cancels the luck
+ of the deal, and as if every round had been dealt on its own. The ratio of their variances is how
+ many times more independent rounds it would take to measure the difference as precisely.
+ */
+public class DuplicateStats {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Winners given to recordRound
+    public static final int FIRST = 0;
+    public static final int SECOND = 1;
+    public static final int TIE = 2;
+
+    // Two-sided 95% confidence
+    private static final double Z_95 = 1.96;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private long m_deals;
+    private long m_failedDeals;
+    private long m_firstWins;
+    private long m_secondWins;
+    private long m_ties;
+    private long m_pairSum;          // Sum over deals of both margins
+    private long m_pairSquares;      // Sum over deals of the square of both margins added
+    private long m_roundSquares;     // Sum over rounds of the square of the margin
+    private long m_elapsedNanos;
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public long getDeals() { return m_deals; }
+
+    public long getFailedDeals() { return m_failedDeals; }
+
+    public long getFirstWins() { return m_firstWins; }
+
+    public long getSecondWins() { return m_secondWins; }
+
+    public long getTies() { return m_ties; }
+
+    public long getElapsedNanos() { return m_elapsedNanos; }
+
+    /**
+     @return the average points per round the first strategy scored more than the second
+     */
+    public double getMeanMargin(){
+        if( m_deals == 0 )
+            return 0;
+
+        return m_pairSum / (2.0 * m_deals);
+    }
+
+    /**
+     @return the standard error of getMeanMargin computed from the pairs of the deals
+     */
+    public double getPairedStandardError(){
+        if( m_deals < 2 )
+            return 0;
+
+        double mean = (double) m_pairSum / m_deals;
+        double variance = (m_pairSquares - mean * m_pairSum) / (m_deals - 1);
+
+        // A pair is two rounds, so its mean per round is half its sum
+        return Math.sqrt( Math.max(0, variance) / m_deals ) / 2;
+    }
+
+    /**
+     @return the standard error of getMeanMargin if all the rounds had been dealt independently
+     */
+    public double getUnpairedStandardError(){
+        long rounds = 2 * m_deals;
+        if( rounds < 2 )
+            return 0;
+
+        double mean = getMeanMargin();
+        double variance = (m_roundSquares - mean * m_pairSum) / (rounds - 1);
+
+        return Math.sqrt( Math.max(0, variance) / rounds );
+    }
+
+    /**
+     @return how many times more independent rounds it takes to get the precision of the paired
+     rounds
+     */
+    public double getVarianceReduction(){
+        double paired = getPairedStandardError();
+        double unpaired = getUnpairedStandardError();
+
+        // Pairs that cancel exactly, e.g. a deterministic strategy against itself
+        if( paired == 0 )
+            return unpaired == 0? 0: Double.POSITIVE_INFINITY;
+
+        return (unpaired * unpaired) / (paired * paired);
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+    public void addElapsedNanos( long a_nanos ){
+        m_elapsedNanos += a_nanos;
+    }
+
+    public void recordFailedDeal(){
+        m_failedDeals++;
+    }
+
+    /**
+     Add the margins of the two rounds of a deal
+     @param a_firstMargin the first strategy's margin when it sat where the deal put it first
+     @param a_secondMargin its margin with the seats swapped
+     */
+    public void recordDeal( int a_firstMargin, int a_secondMargin ){
+        long pair = a_firstMargin + a_secondMargin;
+
+        m_deals++;
+        m_pairSum += pair;
+        m_pairSquares += pair * pair;
+        m_roundSquares += (long) a_firstMargin * a_firstMargin + (long) a_secondMargin * a_secondMargin;
+    }
+
+    // a_winner is FIRST, SECOND or TIE
+    public void recordRound( int a_winner ){
+        if( a_winner == FIRST )
+            m_firstWins++;
+        else if( a_winner == SECOND )
+            m_secondWins++;
+        else
+            m_ties++;
+    }
+
+    // Elapsed time is not added, since runs merged this way ran at the same time
+    public void merge( DuplicateStats a_other ){
+        m_deals += a_other.m_deals;
+        m_failedDeals += a_other.m_failedDeals;
+        m_firstWins += a_other.m_firstWins;
+        m_secondWins += a_other.m_secondWins;
+        m_ties += a_other.m_ties;
+        m_pairSum += a_other.m_pairSum;
+        m_pairSquares += a_other.m_pairSquares;
+        m_roundSquares += a_other.m_roundSquares;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        long rounds = Math.max( 1, 2 * m_deals );
+        double paired = getPairedStandardError();
+
+        sb.append(String.format(Locale.US, "Deals: %d (%d failed)%n", m_deals, m_failedDeals));
+        sb.append(String.format(Locale.US, "First strategy wins: %d (%.2f%%)%n", m_firstWins, 100.0 * m_firstWins / rounds));
+        sb.append(String.format(Locale.US, "Second strategy wins: %d (%.2f%%)%n", m_secondWins, 100.0 * m_secondWins / rounds));
+        sb.append(String.format(Locale.US, "Ties: %d (%.2f%%)%n", m_ties, 100.0 * m_ties / rounds));
+        sb.append(String.format(Locale.US, "Mean margin per round: %.3f +/- %.3f (95%%)%n", getMeanMargin(), Z_95 * paired));
+        sb.append(String.format(Locale.US, "Standard error: paired %.3f, unpaired %.3f%n", paired, getUnpairedStandardError()));
+        sb.append(String.format(Locale.US, "Independent rounds needed for the same precision: %.1f times as many%n", getVarianceReduction()));
+
+        if( m_elapsedNanos > 0 )
+            sb.append(String.format(Locale.US, "Deals per second: %.0f%n", m_deals * 1e9 / m_elapsedNanos));
+
+        return sb.toString();
+    }
+}
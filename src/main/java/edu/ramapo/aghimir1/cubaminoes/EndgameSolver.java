@@ -0,0 +1,430 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ An exact alpha-beta solver for positions where the stock is empty. Once the stock is empty, every
+ tile that isn't in a player's own hand or on the table is in the opponent's hand, so the game has
+ perfect information and can be searched to the end of the round.
+
+ The solver maximizes the points the player to move gets at the end of the round minus the points
+ the opponent gets, counted the way Round.endRound counts them. A solver keeps its move buffers
+ between searches, so one solver should not be used by two threads at a time.
+
+ Results are kept in a TranspositionTable keyed by the Zobrist hash of the hands, the open stones,
+ the player to move and the opponent's pass flag, so a position reached through a different order
+ of the same moves is searched only once. The table is kept between searches, since the score of a
+ position does not depend on how it was reached.
+
+ A search stops when its time budget runs out, so how far it gets depends on the speed of the
+ device and on what else runs at the same time. A solver can be given a node budget instead, which
+ makes the move it returns depend only on the position and on the searches before it; simulations
+ that have to give the same results on any number of threads use one.
+ */
+public class EndgameSolver {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Enough plies for every tile to be placed, with a pass between any two placements
+    private static final int MAX_DEPTH = 2 * TileSet.NUM_TILES + 4;
+    private static final int INFINITY = 100000;
+    // The clock is read once every this many nodes
+    private static final int NODES_PER_TIME_CHECK = 1024;
+    public static final long DEFAULT_TIME_BUDGET_NANOS = 5000000L;
+    // A solver with this node budget is stopped by its time budget
+    public static final long NO_NODE_BUDGET = 0;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private long m_timeBudgetNanos;
+    private long m_nodeBudget;         // Nodes a search may visit, or NO_NODE_BUDGET
+    private int [][] m_moves;
+    private TranspositionTable m_table;
+    private long m_deadline;
+    private long m_nodes;
+    private boolean m_aborted;
+    private int m_lastScore;
+    private boolean m_lastSearchComplete;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    EndgameSolver(){
+        this( DEFAULT_TIME_BUDGET_NANOS );
+    }
+
+    EndgameSolver( long a_timeBudgetNanos ){
+        this( a_timeBudgetNanos, NO_NODE_BUDGET );
+    }
+
+    // A node budget other than NO_NODE_BUDGET replaces the time budget
+    EndgameSolver( long a_timeBudgetNanos, long a_nodeBudget ){
+        m_timeBudgetNanos = a_timeBudgetNanos;
+        m_nodeBudget = a_nodeBudget;
+        m_moves = new int[MAX_DEPTH][MoveGenerator.MAX_MOVES];
+        m_table = new TranspositionTable();
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public long getNodes() { return m_nodes; }
+
+    public long getNodeBudget() { return m_nodeBudget; }
+
+    // The score of the move returned by the last search, from the point of view of the player to move
+    public int getLastScore() { return m_lastScore; }
+
+    // false if the last search ran out of its budget before every move at the root was searched
+    public boolean wasLastSearchComplete() { return m_lastSearchComplete; }
+
+    /**/
+    /*
+    solve
+
+    NAME
+
+        solve - Find the placement that gives the best final score difference
+
+    SYNOPSIS
+
+        public int solve( long a_hand, long a_opponentHand, int a_leftOpenStone, int a_rightOpenStone,
+                          int a_playersSide, boolean a_opponentPassed )
+            a_hand - hand of the player to move, as a TileSet
+            a_opponentHand - hand of the opponent, as a TileSet
+            a_leftOpenStone - open stone of the table's left side
+            a_rightOpenStone - open stone of the table's right side
+            a_playersSide - Side.LEFT_INDEX or Side.RIGHT_INDEX, the side of the player to move
+            a_opponentPassed - true if the opponent passed in his previous turn
+
+    DESCRIPTION
+
+        Search every placement at the root to the end of the round, assuming the stock is empty.
+        If the time budget, or the node budget if the solver has one, runs out, the best of the
+        root moves searched completely so far is returned. Root moves are searched in the order of
+        orderMoves, starting with the best move the transposition table holds for the position,
+        so a search cut short has already tried the moves most likely to be best
+
+    RETURNS
+
+        The best placement encoded as a Move, or Move.NONE if the player can't place a tile or no
+        root move could be searched within the budget
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int solve( long a_hand, long a_opponentHand, int a_leftOpenStone, int a_rightOpenStone,
+                      int a_playersSide, boolean a_opponentPassed ){
+        m_deadline = System.nanoTime() + m_timeBudgetNanos;
+        m_nodes = 0;
+        m_aborted = false;
+        m_lastSearchComplete = false;
+
+        long base = Zobrist.hashHand( a_playersSide, a_hand ) ^ Zobrist.hashHand( 1 - a_playersSide, a_opponentHand )
+                ^ Zobrist.openStone( Side.LEFT_INDEX, a_leftOpenStone ) ^ Zobrist.openStone( Side.RIGHT_INDEX, a_rightOpenStone )
+                ^ Zobrist.turn( a_playersSide );
+
+        int [] moves = m_moves[0];
+        int count = MoveGenerator.generatePlacements( a_hand, a_leftOpenStone, a_rightOpenStone, a_playersSide, a_opponentPassed, moves );
+        orderMoves( moves, count, a_playersSide, getTableMove( base, a_playersSide, a_opponentPassed ) );
+
+        int bestMove = Move.NONE;
+        int alpha = -INFINITY;
+
+        for(int i = 0; i < count; i++){
+            int score = searchPlacement( moves[i], a_hand, a_opponentHand, a_leftOpenStone, a_rightOpenStone,
+                    a_playersSide, base, alpha, INFINITY, 1 );
+
+            if( m_aborted )
+                break;
+
+            if( score > alpha || bestMove == Move.NONE ){
+                alpha = score;
+                bestMove = moves[i];
+            }
+        }
+
+        m_lastSearchComplete = !m_aborted;
+        m_lastScore = alpha;
+        return bestMove;
+    }
+
+    /**/
+    /*
+    search
+
+    NAME
+
+        search - Negamax search with alpha-beta pruning
+
+    SYNOPSIS
+
+        private int search( long a_mover, long a_other, int a_left, int a_right, int a_moverSide,
+                            boolean a_otherPassed, long a_base, int a_alpha, int a_beta, int a_ply )
+            a_mover - hand of the player to move
+            a_other - hand of the other player
+            a_left, a_right - open stones of the table
+            a_moverSide - side index of the player to move
+            a_otherPassed - true if the other player passed in his previous turn
+            a_base - Zobrist hash of the hands, the open stones and the player to move
+            a_alpha, a_beta - the search window, from the mover's point of view
+            a_ply - depth of the node, used to pick the move buffer
+
+    DESCRIPTION
+
+        A player who can't place a tile has to pass since the stock is empty. If the other player
+        passed too, the round is over. Otherwise the transposition table is looked up, every
+        placement is tried in order starting with the table's best move, and the result is stored
+        with the kind of bound the window allows
+
+    RETURNS
+
+        The score of the position from the mover's point of view
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    private int search( long a_mover, long a_other, int a_left, int a_right, int a_moverSide,
+                        boolean a_otherPassed, long a_base, int a_alpha, int a_beta, int a_ply ){
+        if( m_nodeBudget != NO_NODE_BUDGET ){
+            if( ++m_nodes > m_nodeBudget )
+                m_aborted = true;
+        }
+        else if( (++m_nodes % NODES_PER_TIME_CHECK) == 0 && System.nanoTime() > m_deadline ){
+            m_aborted = true;
+        }
+
+        if( m_aborted )
+            return 0;
+
+        int [] moves = m_moves[a_ply];
+        int count = MoveGenerator.generatePlacements( a_mover, a_left, a_right, a_moverSide, a_otherPassed, moves );
+
+        if( count == 0 ){
+            // Both players passed with an empty stock
+            if( a_otherPassed )
+                return evaluate( a_mover, a_other );
+
+            return -search( a_other, a_mover, a_left, a_right, 1 - a_moverSide, true, a_base ^ Zobrist.switchTurn(),
+                    -a_beta, -a_alpha, a_ply + 1 );
+        }
+
+        long key = getKey( a_base, a_moverSide, a_otherPassed );
+        long entry = m_table.probe( key );
+        int tableMove = Move.NONE;
+
+        if( entry != TranspositionTable.MISS ){
+            int score = TranspositionTable.getScore( entry );
+            int bound = TranspositionTable.getBound( entry );
+
+            if( bound == TranspositionTable.EXACT )
+                return score;
+            if( bound == TranspositionTable.LOWER_BOUND && score > a_alpha )
+                a_alpha = score;
+            else if( bound == TranspositionTable.UPPER_BOUND && score < a_beta )
+                a_beta = score;
+            if( a_alpha >= a_beta )
+                return score;
+
+            tableMove = TranspositionTable.getBestMove( entry );
+        }
+
+        orderMoves( moves, count, a_moverSide, tableMove );
+
+        int originalAlpha = a_alpha;
+        int best = -INFINITY;
+        int bestMove = Move.NONE;
+        for(int i = 0; i < count; i++){
+            int score = searchPlacement( moves[i], a_mover, a_other, a_left, a_right, a_moverSide, a_base, a_alpha, a_beta, a_ply + 1 );
+
+            if( score > best ){
+                best = score;
+                bestMove = moves[i];
+            }
+            if( best > a_alpha )
+                a_alpha = best;
+            if( a_alpha >= a_beta || m_aborted )
+                break;
+        }
+
+        if( !m_aborted ){
+            int bound = TranspositionTable.EXACT;
+            if( best <= originalAlpha )
+                bound = TranspositionTable.UPPER_BOUND;
+            else if( best >= a_beta )
+                bound = TranspositionTable.LOWER_BOUND;
+
+            m_table.store( key, best, bound, bestMove );
+        }
+
+        return best;
+    }
+
+    // Play a placement for the mover and search the position after it
+    private int searchPlacement( int a_move, long a_mover, long a_other, int a_left, int a_right, int a_moverSide,
+                                 long a_base, int a_alpha, int a_beta, int a_ply ){
+        int tileId = Move.getTileId( a_move );
+        long hand = TileSet.remove( a_mover, tileId );
+
+        if( hand == TileSet.EMPTY )
+            return evaluate( hand, a_other );
+
+        int side = Move.getSide( a_move );
+        int openStone = Move.getNewOpenStone( a_move );
+        int left = side == Side.LEFT_INDEX? openStone: a_left;
+        int right = side == Side.RIGHT_INDEX? openStone: a_right;
+        long base = a_base ^ Zobrist.hand( a_moverSide, tileId ) ^ Zobrist.switchTurn()
+                ^ Zobrist.openStone( side, side == Side.LEFT_INDEX? a_left: a_right ) ^ Zobrist.openStone( side, openStone );
+
+        return -search( a_other, hand, left, right, 1 - a_moverSide, false, base, -a_beta, -a_alpha, a_ply );
+    }
+
+    // The table key of a position: its base hash plus the pass flag of the player not moving. The
+    // mover's own pass flag does not change what can happen next, so it is left out
+    private static long getKey( long a_base, int a_moverSide, boolean a_otherPassed ){
+        return a_otherPassed? a_base ^ Zobrist.passed( 1 - a_moverSide ): a_base;
+    }
+
+    // The best move the table holds for a position, or Move.NONE
+    private int getTableMove( long a_base, int a_moverSide, boolean a_otherPassed ){
+        long entry = m_table.probe( getKey( a_base, a_moverSide, a_otherPassed ) );
+
+        return entry == TranspositionTable.MISS? Move.NONE: TranspositionTable.getBestMove( entry );
+    }
+
+    /**/
+    /*
+    evaluate
+
+    NAME
+
+        evaluate - Score a finished round
+
+    SYNOPSIS
+
+        static int evaluate( long a_mover, long a_other )
+            a_mover - hand of one player at the end of the round
+            a_other - hand of the other player at the end of the round
+
+    DESCRIPTION
+
+        Award points the way Round.endRound does: endRoundHandEmpty gives a player who emptied his
+        hand the value of the other hand, then endRoundBothPlayersPass gives the player with the
+        lower hand value the value of the other hand
+
+    RETURNS
+
+        The points of a_mover minus the points of a_other
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    static int evaluate( long a_mover, long a_other ){
+        int moverValue = TileSet.getTotalValue( a_mover );
+        int otherValue = TileSet.getTotalValue( a_other );
+        int moverPoints = 0;
+        int otherPoints = 0;
+
+        if( a_mover == TileSet.EMPTY )
+            moverPoints += otherValue;
+        else if( a_other == TileSet.EMPTY )
+            otherPoints += moverValue;
+
+        if( moverValue < otherValue )
+            moverPoints += otherValue;
+        else if( otherValue < moverValue )
+            otherPoints += moverValue;
+
+        return moverPoints - otherPoints;
+    }
+
+    /**/
+    /*
+    orderMoves
+
+    NAME
+
+        orderMoves - Sort moves so that the most promising ones are searched first
+
+    SYNOPSIS
+
+        private static void orderMoves( int [] a_moves, int a_count, int a_moverSide, int a_firstMove )
+            a_moves - moves to sort in place
+            a_count - number of moves in a_moves
+            a_moverSide - side index of the player to move
+            a_firstMove - a move to search before all others, e.g. the best move the
+                    transposition table holds, or Move.NONE
+
+    DESCRIPTION
+
+        Higher valued tiles come first, since getting rid of them lowers the hand value the most.
+        Between tiles of equal value, doubles come before other tiles, and then placements on the
+        player's own side before placements on the opponent's side. Unlike
+        Player.getOptimalTile, which places a double on the opponent's side before anything else,
+        the value of the tile always comes first. The lists are short, so an insertion sort is used
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    private static void orderMoves( int [] a_moves, int a_count, int a_moverSide, int a_firstMove ){
+        for(int i = 1; i < a_count; i++){
+            int move = a_moves[i];
+            int key = orderKey( move, a_moverSide );
+            int j = i - 1;
+
+            while( j >= 0 && orderKey( a_moves[j], a_moverSide ) < key ){
+                a_moves[j + 1] = a_moves[j];
+                j--;
+            }
+            a_moves[j + 1] = move;
+        }
+
+        for(int i = 0; i < a_count && a_firstMove != Move.NONE; i++){
+            if( a_moves[i] == a_firstMove ){
+                System.arraycopy( a_moves, 0, a_moves, 1, i );
+                a_moves[0] = a_firstMove;
+                break;
+            }
+        }
+    }
+
+    private static int orderKey( int a_move, int a_moverSide ){
+        int tileId = Move.getTileId( a_move );
+        int key = TileSet.getNumericValue( tileId ) * 4;
+
+        if( TileSet.isDouble( tileId ) )
+            key += 2;
+        if( Move.getSide( a_move ) == a_moverSide )
+            key += 1;
+
+        return key;
+    }
+}
@@ -6,6 +6,8 @@ import android.content.Intent;
 
 import android.graphics.Typeface;
 
+import android.os.Environment;
+
 import android.support.design.widget.Snackbar;
 import android.support.v7.app.AppCompatActivity;
 import android.os.Bundle;
@@ -19,6 +21,7 @@ import android.widget.PopupMenu;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 
@@ -39,6 +42,10 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
 
     private static final int INVALID_INDEX = Tile.UNDEFINED_STONE;
 
+    private static final String SAVE_FILE_NAME = "savedGame" + TournamentSnapshot.FILE_EXTENSION;
+    private static final String TEXT_SAVE_FILE_NAME = "savedGame" + SaveGameImporter.SAVE_FILE_EXTENSION;
+    private static final String JOURNAL_FILE_NAME = "autosave" + MoveJournal.FILE_EXTENSION;
+
     private static final String DRAW_TILES_PROMPT = "No player has the engine for the round. Press the button below to draw more tiles. One tile will be distributed to each player";
     private static final String DRAW_TILES_BUTTON_TEXT = "Draw Cards";
 
@@ -54,6 +61,8 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
     private boolean m_enginePlaced = false;
     private String m_inputSide;
     private int m_inputhandTileIndex;
+    private MoveJournal m_journal;
+    private AsyncSaveService m_saveService; // Created when the game is first saved
 
 
     /**/
@@ -94,6 +103,128 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
         initializeTournament();
     }
 
+    /**/
+    /*
+    onPause
+
+    NAME
+
+        onPause - Called when this activity goes into the background
+
+    SYNOPSIS
+
+        protected void onPause()
+
+    DESCRIPTION
+
+        Sync the autosave journal, since the app may be killed while it is in the background
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    @Override
+    protected void onPause() {
+        super.onPause();
+
+        // The moves are already in the journal file. Make sure they reach the storage too, in the
+        // background. A write that failed earlier is reported now
+        if( m_journal != null ){
+            m_journal.sync();
+            if( m_journal.getError() != null )
+                showToast( "Failure to autosave the game" );
+        }
+    }
+
+    /**/
+    /*
+    onDestroy
+
+    NAME
+
+        onDestroy - Called when this activity is destroyed
+
+    SYNOPSIS
+
+        protected void onDestroy()
+
+    DESCRIPTION
+
+        Close the autosave journal and stop the save thread. The journal file is kept so that the
+        game can be recovered
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    @Override
+    protected void onDestroy() {
+        // The journal is synced and closed in the background
+        if( m_journal != null )
+            m_journal.close();
+
+        // A save that is still pending is written before the thread stops
+        if( m_saveService != null )
+            m_saveService.shutdown();
+
+        super.onDestroy();
+    }
+
+    /**/
+    /*
+    startJournal
+
+    NAME
+
+        startJournal - Start autosaving the current round
+
+    SYNOPSIS
+
+        private void startJournal()
+
+    DESCRIPTION
+
+        Once the round's engine is on the table, write a snapshot of the tournament to the
+        journal. From then on every move of the round is appended to the journal as it is made
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    private void startJournal(){
+        if( m_journal == null )
+            m_journal = new MoveJournal( Environment.getExternalStorageDirectory().getAbsolutePath() + "/" + JOURNAL_FILE_NAME );
+
+        m_journal.start( m_tournament );
+    }
+
 
     /**/
     /*
@@ -111,6 +242,7 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
     DESCRIPTION
 
         Get the Tournament object that was passed as extra by the activity that started GameActivity.
+        The extra is a TournamentParcel, which carries the tournament as a TournamentSnapshot.
         Initialize the new round in that tournament. Set up the round's engine if need be
 
     RETURNS
@@ -128,7 +260,8 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
     */
     private void initializeTournament(){
         // To retrieve Tournament object passed by the Activity that started this activity
-        m_tournament = (Tournament) getIntent().getSerializableExtra( IntroPageActivity.NEW_TOURNAMENT );
+        TournamentParcel parcel = getIntent().getParcelableExtra( IntroPageActivity.NEW_TOURNAMENT );
+        m_tournament = parcel.getTournament();
         m_round = m_tournament.getCurrentRound();
 
 
@@ -136,6 +269,9 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
             m_round.setUpRound();
             setUpEngine();
         }
+        else{
+            startJournal();
+        }
         refreshView();
     }
 
@@ -843,6 +979,7 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
                 public void onClick(View v) {
                     // Define on click functionality here
                     m_round.placeEngine();
+                    startJournal();
                     refreshView();
                     dialog.dismiss();
                 }
@@ -1081,7 +1218,10 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
 
     DESCRIPTION
 
-        Triggered when the imagebutton that has a save symbol is pressed
+        Triggered when the imagebutton that has a save symbol is pressed. The game is saved both as
+        a binary TournamentSnapshot and in the text format of Round.saveGame, for export and for
+        SaveGameImporter. Both are taken here, and AsyncSaveService writes them on its own thread
+        so that slow storage does not stall the UI
 
     RETURNS
 
@@ -1097,8 +1237,25 @@ public class GameActivity extends AppCompatActivity implements PopupMenu.OnMenuI
 
     */
     public void saveGame(View view){
-        m_round.saveGame( m_tournament.getTournamentScore() );
+        if( m_saveService == null ){
+            String directory = Environment.getExternalStorageDirectory().getAbsolutePath() + "/";
+            m_saveService = new AsyncSaveService( directory + SAVE_FILE_NAME, directory + TEXT_SAVE_FILE_NAME );
+        }
 
+        m_saveService.save( m_tournament, new AsyncSaveService.SaveCallback() {
+            @Override
+            public void saveFinished( final int a_result, IOException a_error ){
+                if( a_result == AsyncSaveService.SUPERSEDED )
+                    return;
+
+                runOnUiThread( new Runnable() {
+                    @Override
+                    public void run(){
+                        showToast( a_result == AsyncSaveService.SAVED? "Game saved": "Failure to save the game" );
+                    }
+                } );
+            }
+        } );
     }
 
 
@@ -0,0 +1,283 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ A read-only archive of rounds in fixed-width records, for datasets far larger than the heap. The
+ file is memory-mapped, and every selector reads straight from the mapped buffers by record
+ number, so scanning the archive creates no objects at all.
+
+ The file starts with a header of HEADER_SIZE bytes:
+
+   'C', 'A', VERSION, RECORD_SIZE, then the number of records as a long at COUNT_OFFSET
+
+ Record i starts at HEADER_SIZE + i * RECORD_SIZE:
+
+   0   short     round number
+   2   byte      TileSet id of the engine
+   3   byte      flags: the side to move, and whether the left and the right player passed
+   4   byte      tiles drawn by the player to move in this turn
+   5   byte      open stones of the left and the right side, a nibble each (0xF if undefined)
+   6   byte      number of stock tiles
+   7   byte      number of moves
+   8   int       left hand as a TileSet
+   12  int       right hand as a TileSet
+   16  28 bytes  TileSet ids of the stock tiles in draw order
+   44  84 bytes  the moves, encoded as in Move
+
+ Bytes 2 to 43 are the position the moves start from, normally the round right after its engine
+ was placed. A round has at most 27 placements, 12 draws and a pass for each draw and placement
+ plus two, so MAX_MOVES is enough for any round dealt by Round.
+ */
+public class GameArchive {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final String FILE_EXTENSION = ".archive";
+
+    public static final int RECORD_SIZE = 128;
+    public static final int HEADER_SIZE = RECORD_SIZE;
+
+    static final byte [] MAGIC = { 'C', 'A' };
+    static final int VERSION = 1;
+    static final int COUNT_OFFSET = 8;
+
+    // Offsets in a record
+    static final int ROUND_NUMBER = 0;
+    static final int ENGINE = 2;
+    static final int FLAGS = 3;
+    static final int TILE_DRAWN = 4;
+    static final int OPEN_STONES = 5;
+    static final int STOCK_COUNT = 6;
+    static final int MOVE_COUNT = 7;
+    static final int LEFT_HAND = 8;
+    static final int RIGHT_HAND = 12;
+    static final int STOCK = 16;
+    static final int MOVES = STOCK + TileSet.NUM_TILES;
+
+    public static final int MAX_MOVES = RECORD_SIZE - MOVES;
+
+    static final int TURN_RIGHT = 1;
+    static final int LEFT_PASSED = 2;
+    static final int RIGHT_PASSED = 4;
+    static final int NO_STONE = 0xF;
+
+    // Records in a mapped segment: 1 GB, so an offset in a segment always fits in an int
+    private static final int SEGMENT_SHIFT = 23;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final MappedByteBuffer [] m_segments;
+    private final long m_count;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public GameArchive( String a_fileName ) throws IOException {
+        RandomAccessFile file = new RandomAccessFile( a_fileName, "r" );
+
+        // A mapping stays valid after its file is closed
+        try{
+            FileChannel channel = file.getChannel();
+            if( channel.size() < HEADER_SIZE )
+                throw new IOException( "Not a game archive" );
+
+            MappedByteBuffer header = channel.map( FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE );
+            if( header.get(0) != MAGIC[0] || header.get(1) != MAGIC[1] )
+                throw new IOException( "Not a game archive" );
+            if( header.get(2) != VERSION || (header.get(3) & 0xFF) != RECORD_SIZE )
+                throw new IOException( "Unknown game archive version " + header.get(2) );
+
+            m_count = header.getLong( COUNT_OFFSET );
+            if( m_count < 0 || HEADER_SIZE + m_count * RECORD_SIZE > channel.size() )
+                throw new IOException( "Game archive cut short" );
+
+            int segments = (int) ((m_count + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            m_segments = new MappedByteBuffer[segments];
+            for(int i = 0; i < segments; i++){
+                long first = (long) i << SEGMENT_SHIFT;
+                long records = Math.min( SEGMENT_MASK + 1, m_count - first );
+                m_segments[i] = channel.map( FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE, records * RECORD_SIZE );
+            }
+        }
+        finally{
+            file.close();
+        }
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public long getCount(){
+        return m_count;
+    }
+
+    public int getRoundNumber( long a_record ){
+        return segment( a_record ).getShort( offset(a_record) + ROUND_NUMBER ) & 0xFFFF;
+    }
+
+    public int getEngineId( long a_record ){
+        return segment( a_record ).get( offset(a_record) + ENGINE ) & 0xFF;
+    }
+
+    public int getMoveCount( long a_record ){
+        return segment( a_record ).get( offset(a_record) + MOVE_COUNT ) & 0xFF;
+    }
+
+    /**
+     @param a_record number of the record
+     @param a_index number of the move in the round, from 0
+     @return the move, encoded as in Move
+     */
+    public int getMove( long a_record, int a_index ){
+        return segment( a_record ).get( offset(a_record) + MOVES + a_index ) & 0xFF;
+    }
+
+    /**
+     @param a_record number of the record
+     @param a_side Side.LEFT_INDEX or Side.RIGHT_INDEX
+     @return the player's hand at the start of the round, as a TileSet
+     */
+    public long getStartHand( long a_record, int a_side ){
+        int field = a_side == Side.LEFT_INDEX? LEFT_HAND: RIGHT_HAND;
+        return segment( a_record ).getInt( offset(a_record) + field ) & TileSet.ALL;
+    }
+
+    /**/
+    /*
+    getPosition
+
+    NAME
+
+        getPosition - Rebuild a position of one of the rounds
+
+    SYNOPSIS
+
+        public void getPosition( long a_record, int a_ply, GameState a_state, int [] a_stockIds )
+            a_record - number of the record
+            a_ply - number of moves made, from 0 (the start) to getMoveCount( a_record )
+            a_state - the state to overwrite with the position
+            a_stockIds - scratch array with room for TileSet.NUM_TILES ids
+
+    DESCRIPTION
+
+        Load the start position of the record into a_state and replay a_ply moves on it. Nothing
+        is allocated, so a scan can reuse one GameState and one array for every record
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void getPosition( long a_record, int a_ply, GameState a_state, int [] a_stockIds ){
+        MappedByteBuffer segment = segment( a_record );
+        int offset = offset( a_record );
+
+        if( a_ply < 0 || a_ply > (segment.get( offset + MOVE_COUNT ) & 0xFF) )
+            throw new IndexOutOfBoundsException( "No position after " + a_ply + " moves" );
+
+        long leftHand = segment.getInt( offset + LEFT_HAND ) & TileSet.ALL;
+        long rightHand = segment.getInt( offset + RIGHT_HAND ) & TileSet.ALL;
+        int flags = segment.get( offset + FLAGS );
+        int stones = segment.get( offset + OPEN_STONES ) & 0xFF;
+        int stockCount = segment.get( offset + STOCK_COUNT ) & 0xFF;
+
+        for(int i = 0; i < stockCount; i++)
+            a_stockIds[i] = segment.get( offset + STOCK + i ) & 0xFF;
+
+        a_state.setHand( Side.LEFT_INDEX, leftHand );
+        a_state.setHand( Side.RIGHT_INDEX, rightHand );
+        a_state.setOpenStone( Side.LEFT_INDEX, fromNibble( stones >>> 4 ) );
+        a_state.setOpenStone( Side.RIGHT_INDEX, fromNibble( stones & NO_STONE ) );
+        a_state.setPassed( Side.LEFT_INDEX, (flags & LEFT_PASSED) != 0 );
+        a_state.setPassed( Side.RIGHT_INDEX, (flags & RIGHT_PASSED) != 0 );
+        a_state.setTurn( (flags & TURN_RIGHT) != 0? Side.RIGHT_INDEX: Side.LEFT_INDEX, segment.get( offset + TILE_DRAWN ) );
+        a_state.setStock( a_stockIds, 0, stockCount );
+        a_state.setTable( segment.get( offset + ENGINE ) & 0xFF, TileSet.ALL & ~leftHand & ~rightHand & ~a_state.getStockMask() );
+
+        for(int i = 0; i < a_ply; i++)
+            a_state.applyMove( segment.get( offset + MOVES + i ) & 0xFF );
+    }
+
+    /**
+     Count how often every move code was played in a range of records
+     @param a_first number of the first record
+     @param a_last number of the record after the last one
+     @param a_counts array of Move.NUM_MOVE_CODES counts, each one increased by the number of times
+     its move was played
+     @return the number of moves counted
+     */
+    public long countMoves( long a_first, long a_last, long [] a_counts ){
+        long moves = 0;
+
+        for(long i = a_first; i < a_last; i++){
+            MappedByteBuffer segment = segment( i );
+            int offset = offset( i );
+            int moveCount = segment.get( offset + MOVE_COUNT ) & 0xFF;
+
+            for(int j = 0; j < moveCount; j++)
+                a_counts[segment.get( offset + MOVES + j ) & 0xFF]++;
+            moves += moveCount;
+        }
+
+        return moves;
+    }
+
+    /* *********************************************
+    Utility functions
+    ********************************************* */
+    private MappedByteBuffer segment( long a_record ){
+        return m_segments[(int) (a_record >>> SEGMENT_SHIFT)];
+    }
+
+    private static int offset( long a_record ){
+        return (int) (a_record & SEGMENT_MASK) * RECORD_SIZE;
+    }
+
+    static int toNibble( int a_stone ){
+        return a_stone >= 0 && a_stone < TileSet.NUM_PIPS? a_stone: NO_STONE;
+    }
+
+    private static int fromNibble( int a_nibble ){
+        return a_nibble == NO_STONE? Tile.UNDEFINED_STONE: a_nibble;
+    }
+
+    // Usage: GameArchive file [passes]
+    // Counts the moves of every round in the archive and reports how fast it went
+    public static void main( String [] args ) throws IOException {
+        if( args.length == 0 ){
+            System.out.println( "Usage: GameArchive file [passes]" );
+            return;
+        }
+
+        GameArchive archive = new GameArchive( args[0] );
+        int passes = args.length > 1? Integer.parseInt( args[1] ): 1;
+        long [] counts = new long[Move.NUM_MOVE_CODES];
+        long moves = 0;
+        long start = System.nanoTime();
+
+        for(int i = 0; i < passes; i++)
+            moves += archive.countMoves( 0, archive.getCount(), counts );
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println( "Rounds: " + archive.getCount() );
+        System.out.println( "Draws: " + counts[Move.DRAW] / passes );
+        System.out.println( "Passes: " + counts[Move.PASS] / passes );
+        System.out.printf( "Moves per second: %.0f%n", moves / seconds );
+    }
+}
@@ -0,0 +1,179 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ Writes rounds to a GameArchive file. The file is written through memory-mapped regions of
+ REGION_RECORDS records, so appending a round is a handful of stores into a mapped buffer. The
+ number of records is written to the header, and the file is cut to its exact size, when the
+ writer is closed.
+ */
+public class GameArchiveWriter {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Records mapped at a time: 8 MB
+    private static final int REGION_RECORDS = 1 << 16;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private RandomAccessFile m_file;
+    private FileChannel m_channel;
+    private MappedByteBuffer m_region;
+    private long m_regionStart;   // Number of the first record in m_region
+    private long m_count;
+    private int [] m_stockIds;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public GameArchiveWriter( String a_fileName ) throws IOException {
+        m_file = new RandomAccessFile( a_fileName, "rw" );
+        m_file.setLength( 0 );
+        m_channel = m_file.getChannel();
+        m_stockIds = new int[TileSet.NUM_TILES];
+        mapRegion( 0 );
+    }
+
+    public long getCount(){
+        return m_count;
+    }
+
+    /**
+     Add a round that was recorded as a GameRecord
+     @param a_record the record of the round
+     */
+    public void append( GameRecord a_record ) throws IOException {
+        int moveCount = a_record.getMoveCount();
+        byte [] moves = new byte[moveCount];
+        for(int i = 0; i < moveCount; i++)
+            moves[i] = (byte) a_record.getMove(i);
+
+        append( a_record.getRoundNumber(), a_record.getPosition(0), moves, moveCount );
+    }
+
+    /**/
+    /*
+    append
+
+    NAME
+
+        append - Add a round to the end of the archive
+
+    SYNOPSIS
+
+        public void append( int a_roundNumber, GameState a_start, byte [] a_moves, int a_moveCount )
+            a_roundNumber - number of the round in its tournament
+            a_start - the position the round's moves start from
+            a_moves - the moves, encoded as in Move
+            a_moveCount - number of moves in a_moves, at most GameArchive.MAX_MOVES
+
+    DESCRIPTION
+
+        Map the next region of the file if the current one is full, and store the start position
+        and the moves in the layout of GameArchive. Unused move bytes are left as zeros
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void append( int a_roundNumber, GameState a_start, byte [] a_moves, int a_moveCount ) throws IOException {
+        if( a_moveCount > GameArchive.MAX_MOVES )
+            throw new IllegalArgumentException( "A round of " + a_moveCount + " moves does not fit in an archive record" );
+
+        if( m_count - m_regionStart == REGION_RECORDS )
+            mapRegion( m_count );
+
+        int offset = (int) (m_count - m_regionStart) * GameArchive.RECORD_SIZE;
+        int stockCount = a_start.getStockIds( m_stockIds );
+
+        m_region.putShort( offset + GameArchive.ROUND_NUMBER, (short) a_roundNumber );
+        m_region.put( offset + GameArchive.ENGINE, (byte) a_start.getEngineId() );
+        m_region.put( offset + GameArchive.FLAGS, (byte) ((a_start.getTurn() == Side.RIGHT_INDEX? GameArchive.TURN_RIGHT: 0)
+                | (a_start.hasPassed(Side.LEFT_INDEX)? GameArchive.LEFT_PASSED: 0)
+                | (a_start.hasPassed(Side.RIGHT_INDEX)? GameArchive.RIGHT_PASSED: 0)) );
+        m_region.put( offset + GameArchive.TILE_DRAWN, (byte) a_start.getTileDrawn() );
+        m_region.put( offset + GameArchive.OPEN_STONES, (byte) ((GameArchive.toNibble( a_start.getOpenStone(Side.LEFT_INDEX) ) << 4)
+                | GameArchive.toNibble( a_start.getOpenStone(Side.RIGHT_INDEX) )) );
+        m_region.put( offset + GameArchive.STOCK_COUNT, (byte) stockCount );
+        m_region.put( offset + GameArchive.MOVE_COUNT, (byte) a_moveCount );
+        m_region.putInt( offset + GameArchive.LEFT_HAND, (int) a_start.getHand(Side.LEFT_INDEX) );
+        m_region.putInt( offset + GameArchive.RIGHT_HAND, (int) a_start.getHand(Side.RIGHT_INDEX) );
+
+        for(int i = 0; i < stockCount; i++)
+            m_region.put( offset + GameArchive.STOCK + i, (byte) m_stockIds[i] );
+        for(int i = 0; i < a_moveCount; i++)
+            m_region.put( offset + GameArchive.MOVES + i, a_moves[i] );
+
+        m_count++;
+    }
+
+    /**
+     Write the header, flush the mapped regions to the file and close it
+     */
+    public void close() throws IOException {
+        if( m_file == null )
+            return;
+
+        try{
+            m_region.force();
+
+            MappedByteBuffer header = m_channel.map( FileChannel.MapMode.READ_WRITE, 0, GameArchive.HEADER_SIZE );
+            header.put( GameArchive.MAGIC );
+            header.put( (byte) GameArchive.VERSION );
+            header.put( (byte) GameArchive.RECORD_SIZE );
+            header.putLong( GameArchive.COUNT_OFFSET, m_count );
+            header.force();
+
+            m_file.setLength( GameArchive.HEADER_SIZE + m_count * GameArchive.RECORD_SIZE );
+        }
+        finally{
+            m_file.close();
+            m_file = null;
+            m_region = null;
+        }
+    }
+
+    // Map the region of the file that starts with record a_first, growing the file to hold it
+    private void mapRegion( long a_first ) throws IOException {
+        if( m_region != null )
+            m_region.force();
+
+        m_regionStart = a_first;
+        m_region = m_channel.map( FileChannel.MapMode.READ_WRITE, GameArchive.HEADER_SIZE + a_first * GameArchive.RECORD_SIZE,
+                (long) REGION_RECORDS * GameArchive.RECORD_SIZE );
+    }
+
+    // Usage: GameArchiveWriter game record file, archive file
+    // Copies every round of a file written by GameRecordWriter into an archive
+    public static void main( String [] args ) throws IOException {
+        if( args.length < 2 ){
+            System.out.println( "Usage: GameArchiveWriter game record file, archive file" );
+            return;
+        }
+
+        GameRecordReader reader = new GameRecordReader( args[0] );
+        GameArchiveWriter writer = new GameArchiveWriter( args[1] );
+
+        for(int i = 0; i < reader.getCount(); i++)
+            writer.append( reader.read(i) );
+
+        reader.close();
+        writer.close();
+        System.out.println( "Rounds archived: " + writer.getCount() );
+    }
+}
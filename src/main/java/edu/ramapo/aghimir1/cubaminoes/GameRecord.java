@@ -0,0 +1,291 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.IOException;
+
+/**
+ The record of a whole round: the position it started from once the engine was placed, the stock
+ in draw order from there on, and every move made in it. A record is kept as the bytes it is
+ stored with:
+
+   short     round number
+   byte      TileSet id of the engine
+   byte      number of tiles in the stock at the start, S
+   short     number of moves, M
+   S bytes   TileSet ids of the stock tiles in draw order
+   checkpoints, M / CHECKPOINT_INTERVAL + 1 of CHECKPOINT_SIZE bytes each
+   M bytes   the moves, encoded as in Move
+
+ Checkpoint k is the position after k * CHECKPOINT_INTERVAL moves:
+
+   int       left hand as a TileSet
+   int       right hand as a TileSet
+   byte      open stone of the left side in the high nibble, of the right side in the low nibble
+   byte      flags: the side to move, and whether the left and the right player passed
+   byte      tiles drawn by the player to move in this turn
+   byte      number of stock tiles drawn since the start
+
+ Any position of the round is rebuilt by loading the checkpoint before it and replaying at most
+ CHECKPOINT_INTERVAL - 1 moves on a GameState.
+ */
+public class GameRecord {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final int CHECKPOINT_INTERVAL = 16;
+    public static final int CHECKPOINT_SIZE = 12;
+
+    private static final int HEADER_SIZE = 6;
+    private static final int NO_STONE = 0xF;
+
+    private static final int TURN_RIGHT = 1;
+    private static final int LEFT_PASSED = 2;
+    private static final int RIGHT_PASSED = 4;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final byte [] m_bytes;
+    private final int [] m_stockIds;
+    private final int m_moveCount;
+    private final int m_movesStart;  // Offset of the first move in m_bytes
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    GameRecord( byte [] a_bytes ) throws IOException {
+        if( a_bytes.length < HEADER_SIZE )
+            throw new IOException( "Game record too short" );
+
+        int stockCount = a_bytes[3] & 0xFF;
+        m_moveCount = readShort( a_bytes, 4 );
+        m_movesStart = HEADER_SIZE + stockCount + getCheckpointCount() * CHECKPOINT_SIZE;
+
+        if( stockCount > TileSet.NUM_TILES || m_movesStart + m_moveCount != a_bytes.length )
+            throw new IOException( "Game record of the wrong size" );
+
+        m_bytes = a_bytes;
+        m_stockIds = new int[stockCount];
+        for(int i = 0; i < stockCount; i++)
+            m_stockIds[i] = a_bytes[HEADER_SIZE + i] & 0xFF;
+    }
+
+    /**/
+    /*
+    encode
+
+    NAME
+
+        encode - Make the record of a round from its start and its moves
+
+    SYNOPSIS
+
+        public static GameRecord encode( int a_roundNumber, GameState a_start, byte [] a_moves, int a_moveCount )
+            a_roundNumber - number of the round in its tournament
+            a_start - the round right after its engine was placed. It is not changed
+            a_moves - the moves made since, encoded as in Move
+            a_moveCount - number of moves in a_moves
+
+    DESCRIPTION
+
+        Replay the moves on a copy of the start, writing a checkpoint of the position every
+        CHECKPOINT_INTERVAL moves
+
+    RETURNS
+
+        The record
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static GameRecord encode( int a_roundNumber, GameState a_start, byte [] a_moves, int a_moveCount ){
+        GameState state = new GameState( a_start );
+        int stockCount = state.getStockSize();
+        int checkpoints = a_moveCount / CHECKPOINT_INTERVAL + 1;
+        byte [] bytes = new byte[HEADER_SIZE + stockCount + checkpoints * CHECKPOINT_SIZE + a_moveCount];
+
+        writeShort( bytes, 0, a_roundNumber );
+        bytes[2] = (byte) state.getEngineId();
+        bytes[3] = (byte) stockCount;
+        writeShort( bytes, 4, a_moveCount );
+
+        int [] stockIds = new int[TileSet.NUM_TILES];
+        state.getStockIds( stockIds );
+        for(int i = 0; i < stockCount; i++)
+            bytes[HEADER_SIZE + i] = (byte) stockIds[i];
+
+        int checkpointStart = HEADER_SIZE + stockCount;
+        int movesStart = checkpointStart + checkpoints * CHECKPOINT_SIZE;
+        System.arraycopy( a_moves, 0, bytes, movesStart, a_moveCount );
+
+        for(int i = 0; i <= a_moveCount; i++){
+            if( i % CHECKPOINT_INTERVAL == 0 )
+                writeCheckpoint( state, stockCount, bytes, checkpointStart + (i / CHECKPOINT_INTERVAL) * CHECKPOINT_SIZE );
+            if( i < a_moveCount )
+                state.applyMove( a_moves[i] );
+        }
+
+        try{
+            return new GameRecord( bytes );
+        }
+        catch( IOException e ){
+            throw new IllegalStateException( "Inconsistent game record", e );
+        }
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+
+    /**
+     @return the bytes the record is stored with. They must not be changed
+     */
+    public byte [] getBytes(){
+        return m_bytes;
+    }
+
+    public int getRoundNumber(){
+        return readShort( m_bytes, 0 );
+    }
+
+    public int getEngineId(){
+        return m_bytes[2] & 0xFF;
+    }
+
+    public int getMoveCount(){
+        return m_moveCount;
+    }
+
+    /**
+     @param a_index number of the move in the round, from 0
+     @return the move, encoded as in Move
+     */
+    public int getMove( int a_index ){
+        return m_bytes[m_movesStart + a_index] & 0xFF;
+    }
+
+    public int getCheckpointCount(){
+        return m_moveCount / CHECKPOINT_INTERVAL + 1;
+    }
+
+    /**/
+    /*
+    getPosition
+
+    NAME
+
+        getPosition - Rebuild the position of the round after a number of moves
+
+    SYNOPSIS
+
+        public void getPosition( int a_ply, GameState a_state )
+            a_ply - number of moves made, from 0 (the start) to getMoveCount()
+            a_state - the state to overwrite with the position
+
+    DESCRIPTION
+
+        Load the last checkpoint at or before the position into a_state and replay the moves
+        between them. Nothing is allocated, so one GameState can be reused for many positions
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void getPosition( int a_ply, GameState a_state ){
+        if( a_ply < 0 || a_ply > m_moveCount )
+            throw new IndexOutOfBoundsException( "No position after " + a_ply + " moves" );
+
+        int checkpoint = a_ply / CHECKPOINT_INTERVAL;
+        readCheckpoint( HEADER_SIZE + m_stockIds.length + checkpoint * CHECKPOINT_SIZE, a_state );
+
+        for(int i = checkpoint * CHECKPOINT_INTERVAL; i < a_ply; i++)
+            a_state.applyMove( getMove(i) );
+    }
+
+    /**
+     @param a_ply number of moves made, from 0 to getMoveCount()
+     @return a new GameState with the position after a_ply moves
+     */
+    public GameState getPosition( int a_ply ){
+        GameState state = new GameState();
+        getPosition( a_ply, state );
+        return state;
+    }
+
+    /* *********************************************
+    Checkpoints
+    ********************************************* */
+    private static void writeCheckpoint( GameState a_state, int a_stockCount, byte [] a_bytes, int a_offset ){
+        writeInt( a_bytes, a_offset, (int) a_state.getHand(Side.LEFT_INDEX) );
+        writeInt( a_bytes, a_offset + 4, (int) a_state.getHand(Side.RIGHT_INDEX) );
+        a_bytes[a_offset + 8] = (byte) ((stoneNibble( a_state.getOpenStone(Side.LEFT_INDEX) ) << 4)
+                | stoneNibble( a_state.getOpenStone(Side.RIGHT_INDEX) ));
+        a_bytes[a_offset + 9] = (byte) ((a_state.getTurn() == Side.RIGHT_INDEX? TURN_RIGHT: 0)
+                | (a_state.hasPassed(Side.LEFT_INDEX)? LEFT_PASSED: 0)
+                | (a_state.hasPassed(Side.RIGHT_INDEX)? RIGHT_PASSED: 0));
+        a_bytes[a_offset + 10] = (byte) a_state.getTileDrawn();
+        a_bytes[a_offset + 11] = (byte) (a_stockCount - a_state.getStockSize());
+    }
+
+    private void readCheckpoint( int a_offset, GameState a_state ){
+        long leftHand = readInt( m_bytes, a_offset ) & TileSet.ALL;
+        long rightHand = readInt( m_bytes, a_offset + 4 ) & TileSet.ALL;
+        int stones = m_bytes[a_offset + 8] & 0xFF;
+        int flags = m_bytes[a_offset + 9];
+        int stockNext = m_bytes[a_offset + 11] & 0xFF;
+
+        a_state.setHand( Side.LEFT_INDEX, leftHand );
+        a_state.setHand( Side.RIGHT_INDEX, rightHand );
+        a_state.setOpenStone( Side.LEFT_INDEX, stoneFromNibble( stones >>> 4 ) );
+        a_state.setOpenStone( Side.RIGHT_INDEX, stoneFromNibble( stones & NO_STONE ) );
+        a_state.setPassed( Side.LEFT_INDEX, (flags & LEFT_PASSED) != 0 );
+        a_state.setPassed( Side.RIGHT_INDEX, (flags & RIGHT_PASSED) != 0 );
+        a_state.setTurn( (flags & TURN_RIGHT) != 0? Side.RIGHT_INDEX: Side.LEFT_INDEX, m_bytes[a_offset + 10] );
+        a_state.setStock( m_stockIds, stockNext, m_stockIds.length - stockNext );
+        a_state.setTable( getEngineId(), TileSet.ALL & ~leftHand & ~rightHand & ~a_state.getStockMask() );
+    }
+
+    private static int stoneNibble( int a_stone ){
+        return a_stone >= 0 && a_stone < TileSet.NUM_PIPS? a_stone: NO_STONE;
+    }
+
+    private static int stoneFromNibble( int a_nibble ){
+        return a_nibble == NO_STONE? Tile.UNDEFINED_STONE: a_nibble;
+    }
+
+    /* *********************************************
+    Byte order helpers, big-endian like DataOutputStream
+    ********************************************* */
+    private static int readShort( byte [] a_bytes, int a_offset ){
+        return ((a_bytes[a_offset] & 0xFF) << 8) | (a_bytes[a_offset + 1] & 0xFF);
+    }
+
+    private static void writeShort( byte [] a_bytes, int a_offset, int a_value ){
+        a_bytes[a_offset] = (byte) (a_value >>> 8);
+        a_bytes[a_offset + 1] = (byte) a_value;
+    }
+
+    private static int readInt( byte [] a_bytes, int a_offset ){
+        return (readShort( a_bytes, a_offset ) << 16) | readShort( a_bytes, a_offset + 2 );
+    }
+
+    private static void writeInt( byte [] a_bytes, int a_offset, int a_value ){
+        writeShort( a_bytes, a_offset, a_value >>> 16 );
+        writeShort( a_bytes, a_offset + 2, a_value );
+    }
+}
@@ -0,0 +1,163 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ Reads the GameRecords of a file written by GameRecordWriter. Only the index is read when the file
+ is opened. A record is read with a single positioned read of its bytes, so records can be read in
+ any order, and by several threads at once.
+ */
+public class GameRecordReader {
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private RandomAccessFile m_file;
+    private FileChannel m_channel;
+    private long [] m_offsets;  // One more than the records: the last one is the index offset
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public GameRecordReader( String a_fileName ) throws IOException {
+        m_file = new RandomAccessFile( a_fileName, "r" );
+        m_channel = m_file.getChannel();
+
+        try{
+            readIndex();
+        }
+        catch( IOException e ){
+            m_file.close();
+            throw e;
+        }
+    }
+
+    private void readIndex() throws IOException {
+        long size = m_channel.size();
+        if( size < GameRecordWriter.HEADER_SIZE + GameRecordWriter.TRAILER_SIZE )
+            throw new IOException( "Not a game record file" );
+
+        ByteBuffer header = readFully( 0, GameRecordWriter.HEADER_SIZE );
+        ByteBuffer trailer = readFully( size - GameRecordWriter.TRAILER_SIZE, GameRecordWriter.TRAILER_SIZE );
+        long indexOffset = trailer.getLong();
+        int count = trailer.getInt();
+
+        if( header.get(0) != GameRecordWriter.MAGIC[0] || header.get(1) != GameRecordWriter.MAGIC[1]
+                || trailer.get() != GameRecordWriter.MAGIC[0] || trailer.get() != GameRecordWriter.MAGIC[1] )
+            throw new IOException( "Not a game record file, or it was not closed" );
+        if( header.get(2) != GameRecordWriter.VERSION )
+            throw new IOException( "Unknown game record version " + header.get(2) );
+        if( count < 0 || indexOffset + (long) count * 8 != size - GameRecordWriter.TRAILER_SIZE )
+            throw new IOException( "Corrupt game record index" );
+
+        ByteBuffer index = readFully( indexOffset, count * 8 );
+        m_offsets = new long[count + 1];
+        for(int i = 0; i < count; i++)
+            m_offsets[i] = index.getLong();
+        m_offsets[count] = indexOffset;
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getCount(){
+        return m_offsets.length - 1;
+    }
+
+    /**/
+    /*
+    read
+
+    NAME
+
+        read - Read one record of the file
+
+    SYNOPSIS
+
+        public GameRecord read( int a_index )
+            a_index - number of the record in the file, from 0
+
+    DESCRIPTION
+
+        Look up the record's offset in the index and read its bytes with one positioned read
+
+    RETURNS
+
+        The record
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public GameRecord read( int a_index ) throws IOException {
+        long start = m_offsets[a_index];
+        long end = m_offsets[a_index + 1];
+        if( end < start || end - start > Integer.MAX_VALUE )
+            throw new IOException( "Corrupt game record index" );
+
+        return new GameRecord( readFully( start, (int) (end - start) ).array() );
+    }
+
+    /**
+     Rebuild a position of one of the records
+     @param a_index number of the record in the file
+     @param a_ply number of moves made in the round
+     @return a new GameState with the position
+     */
+    public GameState readPosition( int a_index, int a_ply ) throws IOException {
+        return read( a_index ).getPosition( a_ply );
+    }
+
+    public void close() throws IOException {
+        m_file.close();
+    }
+
+    private ByteBuffer readFully( long a_position, int a_length ) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate( a_length );
+
+        while( buffer.hasRemaining() ){
+            if( m_channel.read( buffer, a_position + buffer.position() ) < 0 )
+                throw new IOException( "Game record file cut short" );
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    // Usage: GameRecordReader file
+    // Replays every record to its last position and reports how fast it went
+    public static void main( String [] args ) throws IOException {
+        if( args.length == 0 ){
+            System.out.println( "Usage: GameRecordReader file" );
+            return;
+        }
+
+        GameRecordReader reader = new GameRecordReader( args[0] );
+        GameState state = new GameState();
+        long moves = 0;
+        long start = System.nanoTime();
+
+        for(int i = 0; i < reader.getCount(); i++){
+            GameRecord record = reader.read( i );
+            record.getPosition( 0, state );
+            for(int j = 0; j < record.getMoveCount(); j++)
+                state.applyMove( record.getMove(j) );
+            moves += record.getMoveCount();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        reader.close();
+
+        System.out.println( "Games: " + reader.getCount() );
+        System.out.println( "Moves: " + moves );
+        System.out.printf( "Games per second: %.0f%n", reader.getCount() / seconds );
+    }
+}
@@ -0,0 +1,90 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ Writes GameRecords to a file that GameRecordReader can seek in:
+
+   'C', 'G', VERSION
+   the records, one after the other
+   index: the offset of every record in the file, as a long
+   trailer: long offset of the index, int number of records, 'C', 'G'
+
+ The index is written when the file is closed, so a file that was not closed can't be read.
+ */
+public class GameRecordWriter {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final String FILE_EXTENSION = ".games";
+
+    static final byte [] MAGIC = { 'C', 'G' };
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 3;
+    static final int TRAILER_SIZE = 14;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private DataOutputStream m_out;
+    private long m_position;
+    private long [] m_offsets;
+    private int m_count;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public GameRecordWriter( String a_fileName ) throws IOException {
+        m_out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( a_fileName ) ) );
+        m_out.write( MAGIC );
+        m_out.writeByte( VERSION );
+        m_position = HEADER_SIZE;
+        m_offsets = new long[64];
+    }
+
+    public int getCount(){
+        return m_count;
+    }
+
+    /**
+     Add a record to the end of the file. Several threads may write to the same file
+     @param a_record the record of a round
+     */
+    public synchronized void write( GameRecord a_record ) throws IOException {
+        byte [] bytes = a_record.getBytes();
+
+        if( m_count == m_offsets.length )
+            m_offsets = Arrays.copyOf( m_offsets, m_offsets.length * 2 );
+        m_offsets[m_count++] = m_position;
+
+        m_out.write( bytes );
+        m_position += bytes.length;
+    }
+
+    /**
+     Write the index and the trailer and close the file
+     */
+    public synchronized void close() throws IOException {
+        if( m_out == null )
+            return;
+
+        try{
+            long indexOffset = m_position;
+            for(int i = 0; i < m_count; i++)
+                m_out.writeLong( m_offsets[i] );
+
+            m_out.writeLong( indexOffset );
+            m_out.writeInt( m_count );
+            m_out.write( MAGIC );
+        }
+        finally{
+            m_out.close();
+            m_out = null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.Arrays;
+
+/**
+ Records the moves of a round as they are made, for a GameRecord. Round.m_moveSummary only holds
+ the last move, so the recorder listens to the round and keeps every move in a byte array.
+ */
+public class GameRecorder implements MoveListener {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private Round m_round;
+    private GameState m_start;
+    private byte [] m_moves;
+    private int m_moveCount;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+
+    /**
+     Start recording a round
+     @param a_round a round whose engine has just been placed. It has to have no other MoveListener
+     */
+    public GameRecorder( Round a_round ){
+        m_round = a_round;
+        m_start = a_round.getGameState();
+        m_moves = new byte[INITIAL_CAPACITY];
+        a_round.setMoveListener( this );
+    }
+
+    @Override
+    public void moveMade( Round a_round, int a_player, int a_move ){
+        if( m_moveCount == m_moves.length )
+            m_moves = Arrays.copyOf( m_moves, m_moves.length * 2 );
+
+        m_moves[m_moveCount++] = (byte) a_move;
+    }
+
+    public int getMoveCount(){
+        return m_moveCount;
+    }
+
+    /**
+     Stop listening to the round
+     @return the record of the round from its start to the last move made
+     */
+    public GameRecord finish(){
+        m_round.setMoveListener( null );
+        return GameRecord.encode( m_round.getRoundCount(), m_start, m_moves, m_moveCount );
+    }
+}
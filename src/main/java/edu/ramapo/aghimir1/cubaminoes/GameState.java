@@ -0,0 +1,447 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ The state of a round in primitive fields: the hands as TileSets, the open stones of the table, the
+ pass flags, whose turn it is and the stock in draw order. Moves use the encoding of the Move class
+ and follow the rules Round applies, so a search can play thousands of rounds to the end without
+ creating any Tile, Player or Table objects.
+
+ Players are numbered by their side of the table, Side.LEFT_INDEX (the human in a normal game) and
+ Side.RIGHT_INDEX (the computer).
+
+ Every change keeps a Zobrist hash of the state up to date, so positions reached through different
+ move orders can be recognized in a TranspositionTable. The order of the stock is not part of the
+ hash, only which tiles are in it.
+ */
+public class GameState {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final int NUM_PLAYERS = 2;
+
+    // Layout of the undo records of doMove
+    private static final int UNDO_MOVE_BITS = 0x7F;
+    private static final int UNDO_STONE_SHIFT = 7;
+    private static final int UNDO_STONE_BITS = 0xF;
+    private static final int UNDO_UNDEFINED_STONE = 0xF;
+    private static final int UNDO_DRAWN_SHIFT = 11;
+    private static final int UNDO_DRAWN_BITS = 0x1F;
+    private static final int UNDO_LEFT_PASSED = 1 << 16;
+    private static final int UNDO_RIGHT_PASSED = 1 << 17;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private long [] m_hands;
+    private int [] m_openStones;
+    private boolean [] m_passed;
+    private int m_turn;        // Side index of the player to move
+    private int m_tileDrawn;   // Tiles the player to move has drawn in this turn
+    private int [] m_stock;    // TileSet ids in draw order. m_stock[m_stockNext] is drawn next
+    private int m_stockNext;
+    private int m_stockEnd;
+    private long m_stockMask;  // The tiles from m_stockNext to m_stockEnd as a TileSet
+    private long m_placedMask; // Tiles on the table, including the engine
+    private int m_engineId;
+    private long m_hash;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    GameState(){
+        m_hands = new long[NUM_PLAYERS];
+        m_openStones = new int[]{ Tile.UNDEFINED_STONE, Tile.UNDEFINED_STONE };
+        m_passed = new boolean[NUM_PLAYERS];
+        m_stock = new int[TileSet.NUM_TILES];
+        m_engineId = TileSet.INVALID_ID;
+        m_hash = computeHash();
+    }
+
+    GameState( GameState a_other ){
+        this();
+        copyFrom( a_other );
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public long getHand( int a_side ) { return m_hands[a_side]; }
+
+    public int getHandSize( int a_side ) { return TileSet.size( m_hands[a_side] ); }
+
+    public int getOpenStone( int a_side ) { return m_openStones[a_side]; }
+
+    public boolean hasPassed( int a_side ) { return m_passed[a_side]; }
+
+    public int getTurn() { return m_turn; }
+
+    public int getTileDrawn() { return m_tileDrawn; }
+
+    public int getStockSize() { return m_stockEnd - m_stockNext; }
+
+    public boolean isStockEmpty() { return m_stockNext >= m_stockEnd; }
+
+    public long getStockMask() { return m_stockMask; }
+
+    /**
+     Get the tiles left in the stock in the order they will be drawn
+     @param a_ids array with room for TileSet.NUM_TILES ids
+     @return the number of ids written to a_ids
+     */
+    public int getStockIds( int [] a_ids ){
+        System.arraycopy( m_stock, m_stockNext, a_ids, 0, m_stockEnd - m_stockNext );
+        return m_stockEnd - m_stockNext;
+    }
+
+    public long getPlacedMask() { return m_placedMask; }
+
+    public int getEngineId() { return m_engineId; }
+
+    public long getHash() { return m_hash; }
+
+    /**
+     Compute the Zobrist hash of the state from scratch. getHash returns the same value, kept up to
+     date as the state changes
+     @return the hash of the state
+     */
+    public long computeHash(){
+        long hash = Zobrist.hashStock( m_stockMask ) ^ Zobrist.turn( m_turn ) ^ Zobrist.tileDrawn( m_tileDrawn );
+
+        for(int side = 0; side < NUM_PLAYERS; side++){
+            hash ^= Zobrist.hashHand( side, m_hands[side] ) ^ Zobrist.openStone( side, m_openStones[side] );
+            if( m_passed[side] )
+                hash ^= Zobrist.passed( side );
+        }
+
+        return hash;
+    }
+
+    /**
+     Get the set of tiles a player can't see: the other player's hand and the stock
+     @param a_side side index of the player
+     @return a TileSet of the tiles that are neither in the player's hand nor on the table
+     */
+    public long getUnseenMask( int a_side ){
+        return TileSet.ALL & ~m_hands[a_side] & ~m_placedMask;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+    public void setHand( int a_side, long a_hand ){
+        m_hash ^= Zobrist.hashHand( a_side, m_hands[a_side] ) ^ Zobrist.hashHand( a_side, a_hand );
+        m_hands[a_side] = a_hand;
+    }
+
+    public void setOpenStone( int a_side, int a_openStone ){
+        m_hash ^= Zobrist.openStone( a_side, m_openStones[a_side] ) ^ Zobrist.openStone( a_side, a_openStone );
+        m_openStones[a_side] = a_openStone;
+    }
+
+    public void setPassed( int a_side, boolean a_passed ){
+        if( m_passed[a_side] != a_passed )
+            m_hash ^= Zobrist.passed( a_side );
+        m_passed[a_side] = a_passed;
+    }
+
+    public void setTurn( int a_side, int a_tileDrawn ){
+        m_hash ^= Zobrist.turn( m_turn ) ^ Zobrist.turn( a_side ) ^ Zobrist.tileDrawn( m_tileDrawn ) ^ Zobrist.tileDrawn( a_tileDrawn );
+        m_turn = a_side;
+        m_tileDrawn = a_tileDrawn;
+    }
+
+    public void setTable( int a_engineId, long a_placedMask ){
+        m_engineId = a_engineId;
+        m_placedMask = a_placedMask;
+    }
+
+    /**
+     Replace the stock with tiles that will be drawn in the given order
+     @param a_ids TileSet ids of the tiles, starting at index a_from
+     @param a_from index of the first tile in a_ids
+     @param a_count number of tiles
+     */
+    public void setStock( int [] a_ids, int a_from, int a_count ){
+        long stockMask = TileSet.EMPTY;
+        for(int i = a_from; i < a_from + a_count; i++)
+            stockMask = TileSet.add( stockMask, a_ids[i] );
+
+        System.arraycopy( a_ids, a_from, m_stock, 0, a_count );
+        m_stockNext = 0;
+        m_stockEnd = a_count;
+        m_hash ^= Zobrist.hashStock( m_stockMask ) ^ Zobrist.hashStock( stockMask );
+        m_stockMask = stockMask;
+    }
+
+    /**
+     Make this state a copy of another one without allocating anything
+     */
+    public void copyFrom( GameState a_other ){
+        m_hands[0] = a_other.m_hands[0];
+        m_hands[1] = a_other.m_hands[1];
+        m_openStones[0] = a_other.m_openStones[0];
+        m_openStones[1] = a_other.m_openStones[1];
+        m_passed[0] = a_other.m_passed[0];
+        m_passed[1] = a_other.m_passed[1];
+        m_turn = a_other.m_turn;
+        m_tileDrawn = a_other.m_tileDrawn;
+        System.arraycopy( a_other.m_stock, a_other.m_stockNext, m_stock, 0, a_other.m_stockEnd - a_other.m_stockNext );
+        m_stockNext = 0;
+        m_stockEnd = a_other.m_stockEnd - a_other.m_stockNext;
+        m_stockMask = a_other.m_stockMask;
+        m_placedMask = a_other.m_placedMask;
+        m_engineId = a_other.m_engineId;
+        m_hash = a_other.m_hash;
+    }
+
+    /* *********************************************
+    Rules
+    ********************************************* */
+
+    /**
+     List the moves of the player to move, in the encoding of the Move class
+     @param a_moves array with room for MoveGenerator.MAX_MOVES moves
+     @return the number of moves written to a_moves. It is at least 1 unless the round is over
+     */
+    public int generateMoves( int [] a_moves ){
+        return MoveGenerator.generateMoves( m_hands[m_turn], m_openStones[Side.LEFT_INDEX], m_openStones[Side.RIGHT_INDEX],
+                m_turn, m_passed[1 - m_turn], m_tileDrawn, isStockEmpty(), a_moves );
+    }
+
+    /**/
+    /*
+    applyMove
+
+    NAME
+
+        applyMove - Make a move for the player whose turn it is
+
+    SYNOPSIS
+
+        public void applyMove( int a_move )
+            a_move - a legal move of the player to move, as returned by generateMoves
+
+    DESCRIPTION
+
+        Make the move with doMove when it never has to be taken back
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void applyMove( int a_move ){
+        doMove( a_move );
+    }
+
+    /**/
+    /*
+    doMove
+
+    NAME
+
+        doMove - Make a move for the player whose turn it is, so that it can be taken back
+
+    SYNOPSIS
+
+        public int doMove( int a_move )
+            a_move - a legal move of the player to move, as returned by generateMoves
+
+    DESCRIPTION
+
+        Apply a move the way Round.verifyMove does:
+            - A placement removes the tile from the hand, changes the open stone of its side,
+              clears the player's pass flag and ends the turn
+            - A pass sets the player's pass flag and ends the turn
+            - A draw moves the next stock tile to the player's hand. The turn goes on
+        The move is not checked, so it has to be one of the moves generateMoves lists. The hash
+        is updated with the keys of the parts that change.
+
+        Whatever the move overwrites is packed into the returned undo record:
+
+            bits 0-6    the move
+            bits 7-10   the open stone the placement covered, or UNDO_UNDEFINED_STONE
+            bits 11-15  the number of tiles drawn in the turn before the move
+            bits 16-17  the pass flags of the left and the right player before the move
+
+    RETURNS
+
+        The undo record to give to undoMove
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int doMove( int a_move ){
+        int undo = a_move | (m_tileDrawn << UNDO_DRAWN_SHIFT)
+                | (m_passed[Side.LEFT_INDEX]? UNDO_LEFT_PASSED: 0) | (m_passed[Side.RIGHT_INDEX]? UNDO_RIGHT_PASSED: 0);
+
+        if( a_move == Move.DRAW ){
+            int tileId = m_stock[m_stockNext++];
+            m_hands[m_turn] = TileSet.add( m_hands[m_turn], tileId );
+            m_stockMask = TileSet.remove( m_stockMask, tileId );
+            m_hash ^= Zobrist.stock( tileId ) ^ Zobrist.hand( m_turn, tileId ) ^ Zobrist.tileDrawn( m_tileDrawn );
+            m_tileDrawn++;
+            m_hash ^= Zobrist.tileDrawn( m_tileDrawn );
+            return undo;
+        }
+
+        if( a_move == Move.PASS ){
+            setPassed( m_turn, true );
+        }
+        else{
+            int tileId = Move.getTileId( a_move );
+            int side = Move.getSide( a_move );
+            int coveredStone = m_openStones[side];
+
+            undo |= (coveredStone >= 0 && coveredStone < TileSet.NUM_PIPS? coveredStone: UNDO_UNDEFINED_STONE) << UNDO_STONE_SHIFT;
+            m_hands[m_turn] = TileSet.remove( m_hands[m_turn], tileId );
+            m_placedMask = TileSet.add( m_placedMask, tileId );
+            m_hash ^= Zobrist.hand( m_turn, tileId );
+            setOpenStone( side, Move.getNewOpenStone(a_move) );
+            setPassed( m_turn, false );
+        }
+
+        m_hash ^= Zobrist.tileDrawn( m_tileDrawn ) ^ Zobrist.switchTurn();
+        m_tileDrawn = 0;
+        m_turn = 1 - m_turn;
+        return undo;
+    }
+
+    /**/
+    /*
+    undoMove
+
+    NAME
+
+        undoMove - Take back the last move made with doMove
+
+    SYNOPSIS
+
+        public void undoMove( int a_undo )
+            a_undo - the record doMove returned for the move
+
+    DESCRIPTION
+
+        Put back everything the move changed: a drawn tile goes back on top of the stock, a placed
+        tile goes back to the hand and uncovers the open stone it covered, and the turn, the draw
+        count and the pass flags get their old values. Moves have to be taken back in the reverse
+        order they were made in. The hash ends up exactly where it was before the move
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void undoMove( int a_undo ){
+        int move = a_undo & UNDO_MOVE_BITS;
+        int tileDrawn = (a_undo >>> UNDO_DRAWN_SHIFT) & UNDO_DRAWN_BITS;
+
+        if( move == Move.DRAW ){
+            int tileId = m_stock[--m_stockNext];
+            m_hands[m_turn] = TileSet.remove( m_hands[m_turn], tileId );
+            m_stockMask = TileSet.add( m_stockMask, tileId );
+            m_hash ^= Zobrist.stock( tileId ) ^ Zobrist.hand( m_turn, tileId );
+            setTurn( m_turn, tileDrawn );
+            return;
+        }
+
+        setTurn( 1 - m_turn, tileDrawn );
+
+        if( move != Move.PASS ){
+            int tileId = Move.getTileId( move );
+            int coveredStone = (a_undo >>> UNDO_STONE_SHIFT) & UNDO_STONE_BITS;
+
+            m_hands[m_turn] = TileSet.add( m_hands[m_turn], tileId );
+            m_placedMask = TileSet.remove( m_placedMask, tileId );
+            m_hash ^= Zobrist.hand( m_turn, tileId );
+            setOpenStone( Move.getSide(move), coveredStone == UNDO_UNDEFINED_STONE? Tile.UNDEFINED_STONE: coveredStone );
+        }
+
+        setPassed( Side.LEFT_INDEX, (a_undo & UNDO_LEFT_PASSED) != 0 );
+        setPassed( Side.RIGHT_INDEX, (a_undo & UNDO_RIGHT_PASSED) != 0 );
+    }
+
+    /**
+     Check the conditions of Round.roundOver: a player emptied his hand, or the stock is empty
+     and both players' last moves were passes
+     @return true if the round is over
+     */
+    public boolean isRoundOver(){
+        if( m_hands[0] == TileSet.EMPTY || m_hands[1] == TileSet.EMPTY )
+            return true;
+
+        return isStockEmpty() && m_passed[0] && m_passed[1];
+    }
+
+    /**/
+    /*
+    getRoundPoints
+
+    NAME
+
+        getRoundPoints - Get the points a player gets at the end of the round
+
+    SYNOPSIS
+
+        public int getRoundPoints( int a_side )
+            a_side - side index of the player
+
+    DESCRIPTION
+
+        Count the points the way Round.endRound does. A player who emptied his hand gets the value
+        of the other hand (endRoundHandEmpty), and the player with the lower hand value gets the
+        value of the other hand (endRoundBothPlayersPass). Both rules are applied, so a player who
+        empties his hand is credited twice, exactly as in Round
+
+    RETURNS
+
+        The number of points the player gets, 0 if he lost or the round ended in a tie
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int getRoundPoints( int a_side ){
+        long hand = m_hands[a_side];
+        long otherHand = m_hands[1 - a_side];
+        int handValue = TileSet.getTotalValue( hand );
+        int otherValue = TileSet.getTotalValue( otherHand );
+        int points = 0;
+
+        if( hand == TileSet.EMPTY && otherHand != TileSet.EMPTY )
+            points += otherValue;
+
+        if( handValue < otherValue )
+            points += otherValue;
+
+        return points;
+    }
+}
@@ -0,0 +1,408 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ Statistics of many rounds kept column by column: one int array per field, with one entry per
+ round. A query first selects rounds with where, which gives a mask of one byte per round (1 if
+ the round is selected, 0 if not), and then adds up a column over the mask. Every query is a plain
+ loop over primitive arrays without branches, which the JIT can vectorize.
+
+ The columns are filled from GameRecords, so the store can be fed by the Simulator while it plays
+ or from a GameArchive afterwards.
+ */
+public class GameStatsStore {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Columns
+    public static final int ROUND_NUMBER = 0;
+    public static final int ENGINE = 1;            // Pips on each side of the engine
+    public static final int FIRST_PLAYER = 2;      // Side index of the player who moved first
+    public static final int MOVES = 3;
+    public static final int DRAWS = 4;
+    public static final int PASSES = 5;
+    public static final int PASS_HAND_VALUE = 6;   // Sum of the passing player's hand value over all passes
+    public static final int LEFT_HAND_VALUE = 7;   // Hand values at the end of the round
+    public static final int RIGHT_HAND_VALUE = 8;
+    public static final int WINNER = 9;            // Side index of the winner, or TIE
+    public static final int NUM_COLUMNS = 10;
+
+    public static final int TIE = 2;
+
+    // Comparisons of where
+    public static final int EQUAL = 0;
+    public static final int NOT_EQUAL = 1;
+    public static final int LESS = 2;
+    public static final int GREATER = 3;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private int [][] m_columns;
+    private int m_count;
+
+    // Scratch space of add, reused for every round
+    private GameState m_state;
+    private byte [] m_moves;
+    private int [] m_stockIds;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public GameStatsStore(){
+        m_columns = new int[NUM_COLUMNS][INITIAL_CAPACITY];
+        m_state = new GameState();
+        m_moves = new byte[Simulator.MAX_MOVES_PER_ROUND];
+        m_stockIds = new int[TileSet.NUM_TILES];
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+
+    /**
+     @return the number of rounds in the store
+     */
+    public int size(){
+        return m_count;
+    }
+
+    /**
+     @param a_column one of the column constants
+     @param a_round number of the round in the store
+     @return the value of the column for the round
+     */
+    public int get( int a_column, int a_round ){
+        return m_columns[a_column][a_round];
+    }
+
+    /* *********************************************
+    Filling the store
+    ********************************************* */
+
+    /**
+     Add the statistics of a recorded round. Several threads may add rounds to the same store
+     @param a_record the record of a whole round
+     */
+    public synchronized void add( GameRecord a_record ){
+        int moveCount = a_record.getMoveCount();
+        for(int i = 0; i < moveCount; i++)
+            m_moves[i] = (byte) a_record.getMove(i);
+
+        a_record.getPosition( 0, m_state );
+        addRound( a_record.getRoundNumber(), moveCount );
+    }
+
+    /**
+     Add the statistics of every round in an archive
+     @param a_archive the archive
+     */
+    public synchronized void addAll( GameArchive a_archive ){
+        for(long i = 0; i < a_archive.getCount(); i++){
+            int moveCount = a_archive.getMoveCount( i );
+            for(int j = 0; j < moveCount; j++)
+                m_moves[j] = (byte) a_archive.getMove( i, j );
+
+            a_archive.getPosition( i, 0, m_state, m_stockIds );
+            addRound( a_archive.getRoundNumber(i), moveCount );
+        }
+    }
+
+    /**/
+    /*
+    addRound
+
+    NAME
+
+        addRound - Add a row for the round in m_state and m_moves
+
+    SYNOPSIS
+
+        private void addRound( int a_roundNumber, int a_moveCount )
+            a_roundNumber - number of the round in its tournament
+            a_moveCount - number of moves in m_moves
+
+    DESCRIPTION
+
+        Replay the moves on m_state, which holds the start of the round, counting draws and passes
+        and the hand value of every player who passes. The winner is decided from the final hands
+        the way Round.endRound decides it
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    private void addRound( int a_roundNumber, int a_moveCount ){
+        if( m_count == m_columns[0].length ){
+            for(int i = 0; i < NUM_COLUMNS; i++)
+                m_columns[i] = Arrays.copyOf( m_columns[i], m_count * 2 );
+        }
+
+        int firstPlayer = m_state.getTurn();
+        int draws = 0;
+        int passes = 0;
+        int passHandValue = 0;
+
+        for(int i = 0; i < a_moveCount; i++){
+            int move = m_moves[i];
+            if( move == Move.DRAW )
+                draws++;
+            else if( move == Move.PASS ){
+                passes++;
+                passHandValue += TileSet.getTotalValue( m_state.getHand(m_state.getTurn()) );
+            }
+            m_state.applyMove( move );
+        }
+
+        long leftHand = m_state.getHand( Side.LEFT_INDEX );
+        long rightHand = m_state.getHand( Side.RIGHT_INDEX );
+        int leftHandValue = TileSet.getTotalValue( leftHand );
+        int rightHandValue = TileSet.getTotalValue( rightHand );
+
+        // An empty hand wins even against a hand of 0-0, which gives no points
+        int winner = TIE;
+        if( leftHand == TileSet.EMPTY || leftHandValue < rightHandValue )
+            winner = Side.LEFT_INDEX;
+        else if( rightHand == TileSet.EMPTY || rightHandValue < leftHandValue )
+            winner = Side.RIGHT_INDEX;
+
+        m_columns[ROUND_NUMBER][m_count] = a_roundNumber;
+        m_columns[ENGINE][m_count] = TileSet.getHighStone( m_state.getEngineId() );
+        m_columns[FIRST_PLAYER][m_count] = firstPlayer;
+        m_columns[MOVES][m_count] = a_moveCount;
+        m_columns[DRAWS][m_count] = draws;
+        m_columns[PASSES][m_count] = passes;
+        m_columns[PASS_HAND_VALUE][m_count] = passHandValue;
+        m_columns[LEFT_HAND_VALUE][m_count] = leftHandValue;
+        m_columns[RIGHT_HAND_VALUE][m_count] = rightHandValue;
+        m_columns[WINNER][m_count] = winner;
+        m_count++;
+    }
+
+    /* *********************************************
+    Queries
+    ********************************************* */
+
+    /**
+     @return a mask that selects every round
+     */
+    public byte [] all(){
+        byte [] mask = new byte[m_count];
+        Arrays.fill( mask, (byte) 1 );
+        return mask;
+    }
+
+    /**/
+    /*
+    where
+
+    NAME
+
+        where - Select the rounds whose column compares to a value
+
+    SYNOPSIS
+
+        public byte [] where( int a_column, int a_comparison, int a_value )
+            a_column - the column to compare
+            a_comparison - EQUAL, NOT_EQUAL, LESS or GREATER
+            a_value - the value the column is compared to
+
+    DESCRIPTION
+
+        Compare every entry of the column to the value. The comparison is picked once, so the
+        loop over the column has no branches
+
+    RETURNS
+
+        A mask with 1 for every round that matches and 0 for the others
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public byte [] where( int a_column, int a_comparison, int a_value ){
+        int [] column = m_columns[a_column];
+        byte [] mask = new byte[m_count];
+
+        switch( a_comparison ){
+            case EQUAL:
+                for(int i = 0; i < m_count; i++)
+                    mask[i] = (byte) (column[i] == a_value? 1: 0);
+                break;
+            case NOT_EQUAL:
+                for(int i = 0; i < m_count; i++)
+                    mask[i] = (byte) (column[i] != a_value? 1: 0);
+                break;
+            case LESS:
+                for(int i = 0; i < m_count; i++)
+                    mask[i] = (byte) (column[i] < a_value? 1: 0);
+                break;
+            case GREATER:
+                for(int i = 0; i < m_count; i++)
+                    mask[i] = (byte) (column[i] > a_value? 1: 0);
+                break;
+            default:
+                throw new IllegalArgumentException( "Unknown comparison " + a_comparison );
+        }
+
+        return mask;
+    }
+
+    /**
+     Select the rounds two masks both select
+     @return a new mask
+     */
+    public static byte [] and( byte [] a_first, byte [] a_second ){
+        byte [] mask = new byte[a_first.length];
+        for(int i = 0; i < mask.length; i++)
+            mask[i] = (byte) (a_first[i] & a_second[i]);
+        return mask;
+    }
+
+    /**
+     @param a_mask rounds to count
+     @return the number of rounds the mask selects
+     */
+    public long count( byte [] a_mask ){
+        long count = 0;
+        for(int i = 0; i < m_count; i++)
+            count += a_mask[i];
+        return count;
+    }
+
+    /**
+     @param a_column the column to add up
+     @param a_mask rounds to add up
+     @return the sum of the column over the rounds the mask selects
+     */
+    public long sum( int a_column, byte [] a_mask ){
+        int [] column = m_columns[a_column];
+        long sum = 0;
+        for(int i = 0; i < m_count; i++)
+            sum += column[i] * a_mask[i];
+        return sum;
+    }
+
+    /**/
+    /*
+    groupBy
+
+    NAME
+
+        groupBy - Add up a column separately for every value of another column
+
+    SYNOPSIS
+
+        public long [] groupBy( int a_keyColumn, int a_valueColumn, byte [] a_mask )
+            a_keyColumn - the column to group by. Its values must be small and not negative
+            a_valueColumn - the column to add up, or -1 to count the rounds
+            a_mask - rounds to add up
+
+    DESCRIPTION
+
+        Every selected round adds its value to the group of its key. The rounds that are not
+        selected add 0, so the loop has no branches
+
+    RETURNS
+
+        An array indexed by key, as long as the largest key plus one
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public long [] groupBy( int a_keyColumn, int a_valueColumn, byte [] a_mask ){
+        int [] keys = m_columns[a_keyColumn];
+        long [] groups = new long[maxOf( keys ) + 1];
+
+        if( a_valueColumn < 0 ){
+            for(int i = 0; i < m_count; i++)
+                groups[keys[i]] += a_mask[i];
+        }
+        else{
+            int [] values = m_columns[a_valueColumn];
+            for(int i = 0; i < m_count; i++)
+                groups[keys[i]] += values[i] * a_mask[i];
+        }
+
+        return groups;
+    }
+
+    /**
+     Count the selected rounds by the value of a column, in bins of equal width
+     @param a_column the column, whose values must not be negative
+     @param a_binWidth range of values counted in each bin
+     @param a_mask rounds to count
+     @return the counts. Bin b counts the values from b * a_binWidth to (b + 1) * a_binWidth - 1
+     */
+    public long [] histogram( int a_column, int a_binWidth, byte [] a_mask ){
+        int [] column = m_columns[a_column];
+        long [] bins = new long[maxOf( column ) / a_binWidth + 1];
+
+        for(int i = 0; i < m_count; i++)
+            bins[column[i] / a_binWidth] += a_mask[i];
+
+        return bins;
+    }
+
+    private int maxOf( int [] a_column ){
+        int max = 0;
+        for(int i = 0; i < m_count; i++)
+            max = Math.max( max, a_column[i] );
+        return max;
+    }
+
+    // Usage: GameStatsStore archive file
+    // Loads the rounds of a GameArchive and prints a few statistics about them
+    public static void main( String [] args ) throws IOException {
+        if( args.length == 0 ){
+            System.out.println( "Usage: GameStatsStore archive file" );
+            return;
+        }
+
+        GameStatsStore store = new GameStatsStore();
+        store.addAll( new GameArchive( args[0] ) );
+
+        long start = System.nanoTime();
+        byte [] all = store.all();
+        long [] rounds = store.groupBy( ENGINE, -1, all );
+        long [] leftWins = store.groupBy( ENGINE, -1, store.where( WINNER, EQUAL, Side.LEFT_INDEX ) );
+        long [] leftMovedFirst = store.groupBy( ENGINE, -1, store.where( FIRST_PLAYER, EQUAL, Side.LEFT_INDEX ) );
+        double passHandValue = (double) store.sum( PASS_HAND_VALUE, all ) / Math.max( 1, store.sum( PASSES, all ) );
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println( "Rounds: " + store.size() );
+        for(int i = 0; i < rounds.length; i++){
+            if( rounds[i] > 0 )
+                System.out.println( String.format( Locale.US, "Engine %d-%d: %d rounds, left player won %.1f%%, moved first in %.1f%%",
+                        i, i, rounds[i], 100.0 * leftWins[i] / rounds[i], 100.0 * leftMovedFirst[i] / rounds[i] ) );
+        }
+        System.out.println( String.format( Locale.US, "Average hand value at a pass: %.2f", passHandValue ) );
+        System.out.println( String.format( Locale.US, "Query time: %.2f ms", elapsed / 1e6 ) );
+    }
+}
@@ -0,0 +1,160 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.Arrays;
+
+/**
+ A fixed-size cache of the placements GreedyStrategy chooses. The greedy placement is a pure
+ function of the hand, the two open stones, the player's side and whether the opponent passed, so
+ those make up the key of an entry:
+
+   bits 0-27   hand as a TileSet
+   bits 28-30  open stone of the left side, or NO_STONE
+   bits 31-33  open stone of the right side, or NO_STONE
+   bit 34      set if the opponent passed
+   bit 35      set if the player plays the right side
+
+ The table is filled as positions come up, and a new entry always replaces the old one in its slot,
+ so it never grows past its size. As in TranspositionTable, each slot holds the key XORed with the
+ data next to the data, and nothing is locked: an entry half written by another thread is a miss,
+ which is answered by computing the placement again. One table can be shared by every player and
+ thread of a simulation.
+
+ An entry's data is the placement + 1, or 0 if the hand has no tile to place, with VALID_BIT set.
+ */
+public final class GreedyDecisionTable implements Strategy {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // 2^16 slots of 16 bytes, 1 MB
+    public static final int DEFAULT_SIZE_BITS = 16;
+
+    private static final int LEFT_STONE_SHIFT = TileSet.NUM_TILES;
+    private static final int RIGHT_STONE_SHIFT = LEFT_STONE_SHIFT + 3;
+    private static final long PASSED_BIT = 1L << (RIGHT_STONE_SHIFT + 3);
+    private static final long RIGHT_SIDE_BIT = PASSED_BIT << 1;
+    private static final int NO_STONE = 7;
+
+    private static final long VALID_BIT = 1L << 62;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final long [] m_slots;  // Slot i is m_slots[2i] (key ^ data) and m_slots[2i + 1] (data)
+    private final int m_sizeBits;
+
+    // The table shared by the players, created when it is first needed
+    private static class Shared {
+        static final GreedyDecisionTable TABLE = new GreedyDecisionTable();
+    }
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    GreedyDecisionTable(){
+        this( DEFAULT_SIZE_BITS );
+    }
+
+    // The table has 2^a_sizeBits slots of 16 bytes each
+    GreedyDecisionTable( int a_sizeBits ){
+        m_slots = new long[2 << a_sizeBits];
+        m_sizeBits = a_sizeBits;
+    }
+
+    /**
+     @return the table Player.getOptimalTile uses
+     */
+    public static GreedyDecisionTable getShared(){
+        return Shared.TABLE;
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getSize(){
+        return 1 << m_sizeBits;
+    }
+
+    /**/
+    /*
+    getPlacement
+
+    NAME
+
+        getPlacement - Get the placement GreedyStrategy chooses, from the table if it is there
+
+    SYNOPSIS
+
+        public int getPlacement( long a_hand, int a_side, int a_leftStone, int a_rightStone, boolean a_opponentPassed )
+            a_hand - TileSet of the player to move
+            a_side - Side.LEFT_INDEX or Side.RIGHT_INDEX, the player's own side
+            a_leftStone - open stone of the left side of the table
+            a_rightStone - open stone of the right side of the table
+            a_opponentPassed - true if the opponent passed in her/his previous turn
+
+    DESCRIPTION
+
+        Look up the key of the parameters. On a miss, compute the placement with
+        GreedyStrategy.choosePlacement and store it in the key's slot
+
+    RETURNS
+
+        The placement, encoded as in Move, or Move.NONE if no tile of the hand can be placed
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int getPlacement( long a_hand, int a_side, int a_leftStone, int a_rightStone, boolean a_opponentPassed ){
+        long key = a_hand | ((long) toStoneCode(a_leftStone) << LEFT_STONE_SHIFT)
+                | ((long) toStoneCode(a_rightStone) << RIGHT_STONE_SHIFT)
+                | (a_opponentPassed? PASSED_BIT: 0) | (a_side == Side.RIGHT_INDEX? RIGHT_SIDE_BIT: 0);
+        int index = (int) ((key * HASH_MULTIPLIER) >>> (64 - m_sizeBits)) << 1;
+
+        long data = m_slots[index + 1];
+        if( (m_slots[index] ^ data) == key && (data & VALID_BIT) != 0 )
+            return (int) (data & 0xFF) - 1;
+
+        int placement = GreedyStrategy.choosePlacement( a_hand, a_side, a_leftStone, a_rightStone, a_opponentPassed );
+        data = (placement + 1) | VALID_BIT;
+        m_slots[index] = key ^ data;
+        m_slots[index + 1] = data;
+
+        return placement;
+    }
+
+    /**
+     Choose a move the way GreedyStrategy does, with the placement taken from the table
+     @param a_position what the player to move can see of the round
+     @return the move, encoded as in Move
+     */
+    public int chooseMove( Position a_position ){
+        int move = getPlacement( a_position.getHand(), a_position.getSide(), a_position.getOpenStone( Side.LEFT_INDEX ),
+                a_position.getOpenStone( Side.RIGHT_INDEX ), a_position.hasOpponentPassed() );
+
+        if( move != Move.NONE )
+            return move;
+
+        return a_position.canDraw()? Move.DRAW: Move.PASS;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+    public void clear(){
+        Arrays.fill( m_slots, 0L );
+    }
+
+    /* *********************************************
+    Utility functions
+    ********************************************* */
+    private static int toStoneCode( int a_stone ){
+        return a_stone >= 0 && a_stone < TileSet.NUM_PIPS? a_stone: NO_STONE;
+    }
+}
@@ -0,0 +1,141 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ The fixed priorities of Player.getOptimalTile and Player.getOptimalMoveOption as a Strategy:
+
+   1. a double on the opponent's side
+   2. the highest valued tile on the player's own side
+   3. the highest valued tile on the opponent's side, if the opponent just passed
+   4. a draw, if the player hasn't drawn in this turn and the stock isn't empty
+   5. a pass
+
+ Two tiles that match the same open stone can't have the same value, so the strategy picks exactly
+ the tile Player does, without knowing the order of the hand.
+ */
+public final class GreedyStrategy implements Strategy {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // The strategy has no state, so every player can use this one
+    public static final GreedyStrategy INSTANCE = new GreedyStrategy();
+
+    private GreedyStrategy(){
+    }
+
+    /**/
+    /*
+    chooseMove
+
+    NAME
+
+        chooseMove - Choose a move with the greedy priorities
+
+    SYNOPSIS
+
+        public int chooseMove( Position a_position )
+            a_position - what the player to move can see of the round
+
+    DESCRIPTION
+
+        Go through the priorities in the order given above and return the first move that is
+        legal. A double fits the opponent's side whether or not the opponent passed
+
+    RETURNS
+
+        The move, encoded as in Move
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int chooseMove( Position a_position ){
+        int move = choosePlacement( a_position.getHand(), a_position.getSide(), a_position.getOpenStone( Side.LEFT_INDEX ),
+                a_position.getOpenStone( Side.RIGHT_INDEX ), a_position.hasOpponentPassed() );
+
+        if( move != Move.NONE )
+            return move;
+
+        return a_position.canDraw()? Move.DRAW: Move.PASS;
+    }
+
+    /**/
+    /*
+    choosePlacement
+
+    NAME
+
+        choosePlacement - Choose the tile to place with the first three greedy priorities
+
+    SYNOPSIS
+
+        public static int choosePlacement( long a_hand, int a_side, int a_leftStone, int a_rightStone, boolean a_opponentPassed )
+            a_hand - TileSet of the player to move
+            a_side - Side.LEFT_INDEX or Side.RIGHT_INDEX, the player's own side
+            a_leftStone - open stone of the left side of the table
+            a_rightStone - open stone of the right side of the table
+            a_opponentPassed - true if the opponent passed in her/his previous turn
+
+    DESCRIPTION
+
+        The placement depends on nothing but the parameters, which is what lets
+        GreedyDecisionTable keep it
+
+    RETURNS
+
+        The placement, encoded as in Move, or Move.NONE if no tile of the hand can be placed
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static int choosePlacement( long a_hand, int a_side, int a_leftStone, int a_rightStone, boolean a_opponentPassed ){
+        int opponentsSide = 1 - a_side;
+        int ownStone = a_side == Side.LEFT_INDEX? a_leftStone: a_rightStone;
+        int opponentsStone = a_side == Side.LEFT_INDEX? a_rightStone: a_leftStone;
+
+        if( TileSet.hasDouble( a_hand, opponentsStone ) )
+            return Move.placement( TileSet.doubleOf( opponentsStone ), opponentsSide, opponentsStone );
+
+        int tileId = getHighestValuedTile( TileSet.matching( a_hand, ownStone ) );
+        if( tileId != TileSet.INVALID_ID )
+            return Move.placement( tileId, a_side, ownStone );
+
+        if( a_opponentPassed ){
+            tileId = getHighestValuedTile( TileSet.matching( a_hand, opponentsStone ) );
+            if( tileId != TileSet.INVALID_ID )
+                return Move.placement( tileId, opponentsSide, opponentsStone );
+        }
+
+        return Move.NONE;
+    }
+
+    /**
+     @return the id of the tile of a set with the highest numeric value, or TileSet.INVALID_ID if the
+     set is empty
+     */
+    private static int getHighestValuedTile( long a_set ){
+        int res = TileSet.INVALID_ID;
+        int highestVal = Integer.MIN_VALUE;
+
+        for(long rest = a_set; rest != TileSet.EMPTY; rest &= rest - 1){
+            int id = Long.numberOfTrailingZeros( rest );
+            if( TileSet.getNumericValue(id) > highestVal ){
+                highestVal = TileSet.getNumericValue(id);
+                res = id;
+            }
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,81 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.Locale;
+
+/**
+ Counts of a bulk import of save files by SaveGameImporter
+ */
+public class ImportStats {
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private long m_files;
+    private long m_imported;
+    private long m_unreadable;     // Files that could not be read or had an invalid tile
+    private long m_notConserving;  // Files that do not hold every tile exactly once
+    private long m_elapsedNanos;
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public long getFiles() { return m_files; }
+
+    public long getImported() { return m_imported; }
+
+    public long getUnreadable() { return m_unreadable; }
+
+    public long getNotConserving() { return m_notConserving; }
+
+    public long getElapsedNanos() { return m_elapsedNanos; }
+
+    public double getFilesPerSecond(){
+        if( m_elapsedNanos == 0 )
+            return 0;
+
+        return m_files * 1e9 / m_elapsedNanos;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+    public void addElapsedNanos( long a_nanos ){
+        m_elapsedNanos += a_nanos;
+    }
+
+    public void recordImported(){
+        m_files++;
+        m_imported++;
+    }
+
+    public void recordUnreadable(){
+        m_files++;
+        m_unreadable++;
+    }
+
+    public void recordNotConserving(){
+        m_files++;
+        m_notConserving++;
+    }
+
+    // Elapsed time is not added, since imports merged this way ran at the same time
+    public void merge( ImportStats a_other ){
+        m_files += a_other.m_files;
+        m_imported += a_other.m_imported;
+        m_unreadable += a_other.m_unreadable;
+        m_notConserving += a_other.m_notConserving;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format(Locale.US, "Files: %d%n", m_files));
+        sb.append(String.format(Locale.US, "Imported: %d%n", m_imported));
+        sb.append(String.format(Locale.US, "Unreadable: %d%n", m_unreadable));
+        sb.append(String.format(Locale.US, "Tiles not conserved: %d%n", m_notConserving));
+        sb.append(String.format(Locale.US, "Files per second: %.0f%n", getFilesPerSecond()));
+
+        return sb.toString();
+    }
+}
@@ -11,6 +11,7 @@ import android.os.Bundle;
 import android.util.Log;
 import android.view.View;
 import android.widget.Button;
+import android.widget.CheckBox;
 import android.widget.EditText;
 import android.widget.ListView;
 import android.widget.Toast;
@@ -158,10 +159,13 @@ public class IntroPageActivity extends AppCompatActivity {
         EditText editText = a_dialog.findViewById(R.id.editTextMaxTournamentScore);
         String text = editText.getText().toString();
 
+        CheckBox strongComputer = a_dialog.findViewById(R.id.checkBoxStrongComputer);
+        int computerStrategy = strongComputer.isChecked()? Computer.MCTS_STRATEGY: Computer.GREEDY_STRATEGY;
+
         if( !(text.isEmpty() || Integer.parseInt(text) == 0) ){
-            m_newTournament = new Tournament( Integer.parseInt(text) );
+            m_newTournament = new Tournament( Integer.parseInt(text), computerStrategy );
             Intent intent = new Intent(this, GameActivity.class);
-            intent.putExtra(NEW_TOURNAMENT, m_newTournament);
+            intent.putExtra(NEW_TOURNAMENT, new TournamentParcel(m_newTournament));
             startActivity(intent);
             return true;
         }
@@ -186,7 +190,9 @@ public class IntroPageActivity extends AppCompatActivity {
 
     DESCRIPTION
         Open up an alertbox that asks the user to select a previously saved game. Previously saved
-        games are all textfiles. The user should select a valid text file for the game to load
+        games are either text files or binary TournamentSnapshot files. A MoveJournal autosave is
+        listed too, and loading it replays the moves of the round. The user should select a valid
+        file for the game to load
         Initialize reference to a Tournament object and start a new activity (GameActivity). Pass the
         reference to a Tournament object to GameActivity as an intentExtra to form a link between the
         model classes and the view classes
@@ -215,7 +221,7 @@ public class IntroPageActivity extends AppCompatActivity {
 
         for (File oneFile : files ){
             String name = oneFile.getName();
-            if (name.endsWith(".txt")){
+            if (name.endsWith(".txt") || TournamentSnapshot.isSnapshotFile(name) || name.endsWith(MoveJournal.FILE_EXTENSION)){
                 nameList.add(name);
             }
         }
@@ -230,9 +236,21 @@ public class IntroPageActivity extends AppCompatActivity {
                 String fileName = (String) select.getAdapter().getItem(these);
                 fileName = fileDir  + "/" +  fileName;
 
-                m_newTournament = new Tournament( fileName );
+                try{
+                    if( TournamentSnapshot.isSnapshotFile(fileName) )
+                        m_newTournament = TournamentSnapshot.load( fileName );
+                    else if( fileName.endsWith(MoveJournal.FILE_EXTENSION) )
+                        m_newTournament = MoveJournal.recover( fileName );
+                    else
+                        m_newTournament = new Tournament( fileName );
+                }
+                catch( IOException e ){
+                    Toast.makeText( IntroPageActivity.this, "Failure to load the game", Toast.LENGTH_SHORT ).show();
+                    return;
+                }
+
                 Intent intent = new Intent(IntroPageActivity.this, GameActivity.class);
-                intent.putExtra(NEW_TOURNAMENT, m_newTournament);
+                intent.putExtra(NEW_TOURNAMENT, new TournamentParcel(m_newTournament));
                 startActivity(intent);
             }
         });
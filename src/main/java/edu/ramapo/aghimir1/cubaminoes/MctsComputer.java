@@ -0,0 +1,219 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.Serializable;
+
+/**
+ A computer player that chooses its moves with MonteCarloSearch instead of the fixed priorities of
+ Player.getOptimalTile. The more playouts it is given per decision, the stronger it plays. Once the
+ stock is empty, the exact endgame solver of Computer takes over unless it is turned off.
+
+ The search runs on one thread by default. setParallelSearch spreads it over several threads, either
+ with one tree per thread or with one shared tree, and can give every decision a time budget instead
+ of a fixed number of playouts.
+
+ The computer follows the round in an OpponentModel, so that the search deals the opponent the
+ hands her/his passes and draws make likely, instead of any hand at all.
+ */
+public class MctsComputer extends Computer implements Serializable {
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private int m_playouts;
+    private int m_searchMode;        // One of the modes of ParallelMonteCarloSearch
+    private int m_threads;
+    private long m_timeBudgetNanos;
+    private int m_searchedMove = Move.NONE;   // Move found by the search for the current decision
+    private boolean m_useOpponentModel = true;
+    private transient ParallelMonteCarloSearch m_search; // Created when it is first needed
+    private transient OpponentModel m_opponentModel;     // Created when it is first needed
+    private transient double [] m_handProbabilities;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    MctsComputer( String a_side ){
+        this( a_side, MonteCarloSearch.DEFAULT_PLAYOUTS );
+    }
+
+    MctsComputer( String a_side, int a_playouts ){
+        super( a_side );
+        m_playouts = a_playouts;
+        m_searchMode = ParallelMonteCarloSearch.SEQUENTIAL;
+        m_threads = 1;
+        m_timeBudgetNanos = ParallelMonteCarloSearch.NO_TIME_BUDGET;
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getPlayouts(){
+        return m_playouts;
+    }
+
+    public int getSearchMode(){
+        return m_searchMode;
+    }
+
+    public boolean isOpponentModelEnabled(){
+        return m_useOpponentModel;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+
+    // With the model off, the search deals the unseen tiles uniformly
+    public void setOpponentModelEnabled( boolean a_enabled ){
+        m_useOpponentModel = a_enabled;
+    }
+
+    /**
+     Change how the computer searches
+     @param a_searchMode ParallelMonteCarloSearch.SEQUENTIAL, ROOT_PARALLEL or TREE_PARALLEL
+     @param a_threads number of threads of a parallel search
+     @param a_playouts playouts per decision, or ParallelMonteCarloSearch.NO_PLAYOUT_LIMIT
+     @param a_timeBudgetNanos time per decision, or ParallelMonteCarloSearch.NO_TIME_BUDGET
+     */
+    public void setParallelSearch( int a_searchMode, int a_threads, int a_playouts, long a_timeBudgetNanos ){
+        m_searchMode = a_searchMode;
+        m_threads = a_threads;
+        m_playouts = a_playouts;
+        m_timeBudgetNanos = a_timeBudgetNanos;
+        m_search = null;
+    }
+
+    /**/
+    /*
+    prepareMove
+
+    NAME
+
+        prepareMove - Search the round for the computer's next move
+
+    SYNOPSIS
+
+        public void prepareMove( Round a_round )
+            a_round - the round the computer is about to move in
+
+    DESCRIPTION
+
+        Copy the round into a GameState and search it. The search only looks at the computer's own
+        hand, the table, the pass flags and the number of tiles in the opponent's hand and in the
+        stock, and at the opponent model's probabilities if it is on. Nothing is searched when the
+        endgame solver will choose the move instead
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void prepareMove( Round a_round ){
+        m_searchedMove = Move.NONE;
+
+        if( a_round.getStock().isEmpty() && isEndgameSolverEnabled() )
+            return;
+
+        GameState state = a_round.getGameState();
+        if( state.getTurn() != getSideIndex() )
+            return;
+
+        if( m_search == null )
+            m_search = new ParallelMonteCarloSearch( m_searchMode, m_threads, m_playouts, m_timeBudgetNanos );
+
+        m_search.setHandProbabilities( getHandProbabilities( a_round ) );
+        m_searchedMove = m_search.search( state );
+    }
+
+    /**
+     Keep the opponent model up to date with every move of the round
+     */
+    @Override
+    public void moveMade( Round a_round, int a_player, int a_move ){
+        if( m_useOpponentModel )
+            getOpponentModel().moveMade( a_round, a_player, a_move );
+    }
+
+    // The model's probabilities for the round, or null if the model is off
+    private double [] getHandProbabilities( Round a_round ){
+        if( !m_useOpponentModel )
+            return null;
+
+        OpponentModel model = getOpponentModel();
+        if( !model.isFollowing( a_round ) )
+            model.reset( a_round );
+
+        if( m_handProbabilities == null )
+            m_handProbabilities = new double[TileSet.NUM_TILES];
+        model.getHandProbabilities( m_handProbabilities );
+
+        return m_handProbabilities;
+    }
+
+    private OpponentModel getOpponentModel(){
+        if( m_opponentModel == null )
+            m_opponentModel = new OpponentModel( getSideIndex() );
+
+        return m_opponentModel;
+    }
+
+    /**/
+    /*
+    getMoveOption
+
+    NAME
+
+        getMoveOption - Get the move option of the move the search found
+
+    SYNOPSIS
+
+        public int getMoveOption( Table a_table, String a_playersSide, boolean a_opponentPassed, boolean a_stockEmpty )
+            a_table - reference to the game table
+            a_playersSide - a String denoting a player's side
+            a_opponentPassed - This variable tells if the opponent player passed in his previous turn
+            a_stockEmpty - This variable tells if the round stock is empty
+
+    DESCRIPTION
+
+        A placement found by the search is kept for selectTile and selectSide. If prepareMove did
+        not search, the move is chosen the way Computer chooses it
+
+    RETURNS
+
+        UserInput.PLACE_TILE, UserInput.PASS or UserInput.DRAW_TILE
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int getMoveOption( Table a_table, String a_playersSide, boolean a_opponentPassed, boolean a_stockEmpty ){
+        if( m_searchedMove == Move.NONE )
+            return super.getMoveOption( a_table, a_playersSide, a_opponentPassed, a_stockEmpty );
+
+        int move = m_searchedMove;
+        m_searchedMove = Move.NONE;
+        m_plannedMove = Move.NONE;
+
+        if( Move.isDraw(move) )
+            return UserInput.DRAW_TILE;
+
+        if( Move.isPass(move) )
+            return UserInput.PASS;
+
+        m_plannedMove = move;
+        return UserInput.PLACE_TILE;
+    }
+}
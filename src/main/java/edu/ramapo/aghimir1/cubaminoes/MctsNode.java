@@ -0,0 +1,209 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ A node of the tree MonteCarloSearch builds. The node stands for the move that leads to it from its
+ parent, and keeps the statistics of every playout that went through that move.
+
+ Since the tree is searched over many different deals of the unseen tiles, a move is not legal in
+ every playout that reaches its parent. Besides the number of visits, a node counts how many times
+ it was available, and that count takes the place of the parent's visits in the UCB formula.
+
+ Several threads can search one tree at the same time. The statistics are updated with atomic
+ operations and children are linked in with compare-and-set, so no node is ever locked. The reward
+ sum is kept in fixed point so that it can be added to atomically.
+ */
+public class MctsNode {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // A reward of 1 is stored as REWARD_UNIT in m_totalReward
+    private static final double REWARD_UNIT = 1 << 20;
+
+    private static final AtomicReferenceFieldUpdater<MctsNode, MctsNode> FIRST_CHILD =
+            AtomicReferenceFieldUpdater.newUpdater( MctsNode.class, MctsNode.class, "m_firstChild" );
+    private static final AtomicLongFieldUpdater<MctsNode> LOW_CHILD_MOVES =
+            AtomicLongFieldUpdater.newUpdater( MctsNode.class, "m_lowChildMoves" );
+    private static final AtomicLongFieldUpdater<MctsNode> HIGH_CHILD_MOVES =
+            AtomicLongFieldUpdater.newUpdater( MctsNode.class, "m_highChildMoves" );
+    private static final AtomicIntegerFieldUpdater<MctsNode> VISITS =
+            AtomicIntegerFieldUpdater.newUpdater( MctsNode.class, "m_visits" );
+    private static final AtomicIntegerFieldUpdater<MctsNode> AVAILABILITY =
+            AtomicIntegerFieldUpdater.newUpdater( MctsNode.class, "m_availability" );
+    private static final AtomicLongFieldUpdater<MctsNode> TOTAL_REWARD =
+            AtomicLongFieldUpdater.newUpdater( MctsNode.class, "m_totalReward" );
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final int m_move;                // The move that leads to this node, encoded as in Move
+    private final int m_player;              // Side index of the player who made m_move
+    private final MctsNode m_parent;
+    private volatile MctsNode m_firstChild;
+    private volatile MctsNode m_nextSibling;
+    private volatile long m_lowChildMoves;   // Moves 0-63 that have a child, one bit per move
+    private volatile long m_highChildMoves;  // Moves 64-127 that have a child
+    private volatile int m_visits;           // Includes the virtual losses of playouts still running
+    private volatile int m_availability;
+    private volatile long m_totalReward;     // Sum of the rewards of m_player, in REWARD_UNITs
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    MctsNode( int a_move, int a_player, MctsNode a_parent ){
+        m_move = a_move;
+        m_player = a_player;
+        m_parent = a_parent;
+        m_availability = 1;
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getMove() { return m_move; }
+
+    public int getPlayer() { return m_player; }
+
+    public MctsNode getParent() { return m_parent; }
+
+    public MctsNode getFirstChild() { return m_firstChild; }
+
+    public MctsNode getNextSibling() { return m_nextSibling; }
+
+    public int getVisits() { return m_visits; }
+
+    public int getAvailability() { return m_availability; }
+
+    public double getTotalReward() { return m_totalReward / REWARD_UNIT; }
+
+    public boolean hasChild( int a_move ){
+        if( a_move < Long.SIZE )
+            return (m_lowChildMoves & (1L << a_move)) != 0;
+
+        return (m_highChildMoves & (1L << (a_move - Long.SIZE))) != 0;
+    }
+
+    /**/
+    /*
+    getUcbScore
+
+    NAME
+
+        getUcbScore - Get the score selection compares the children of a node by
+
+    SYNOPSIS
+
+        public double getUcbScore( double a_exploration )
+            a_exploration - weight of the exploration term
+
+    DESCRIPTION
+
+        The average reward of the node plus a_exploration * sqrt( ln(availability) / visits ). A
+        node that was never visited is returned as infinitely good, so it gets tried first
+
+    RETURNS
+
+        The UCB score of the node
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public double getUcbScore( double a_exploration ){
+        if( m_visits == 0 )
+            return Double.POSITIVE_INFINITY;
+
+        return getTotalReward() / m_visits + a_exploration * Math.sqrt( Math.log(m_availability) / m_visits );
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+
+    /**/
+    /*
+    addChild
+
+    NAME
+
+        addChild - Add a child for a move that doesn't have one yet
+
+    SYNOPSIS
+
+        public MctsNode addChild( int a_move, int a_player )
+            a_move - the move that leads to the child
+            a_player - side index of the player making the move
+
+    DESCRIPTION
+
+        The move's bit is claimed first. Only the thread that claims it creates the child, which is
+        then pushed on the front of the list of children. A thread that finds the bit already
+        claimed gets null, and the child shows up in the list once the other thread links it in
+
+    RETURNS
+
+        The new child, or null if another thread is adding the same child
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public MctsNode addChild( int a_move, int a_player ){
+        AtomicLongFieldUpdater<MctsNode> childMoves = a_move < Long.SIZE? LOW_CHILD_MOVES: HIGH_CHILD_MOVES;
+        long bit = 1L << (a_move % Long.SIZE);
+
+        long moves;
+        do{
+            moves = childMoves.get( this );
+            if( (moves & bit) != 0 )
+                return null;
+        } while( !childMoves.compareAndSet( this, moves, moves | bit ) );
+
+        MctsNode child = new MctsNode( a_move, a_player, this );
+        MctsNode first;
+        do{
+            first = m_firstChild;
+            child.m_nextSibling = first;
+        } while( !FIRST_CHILD.compareAndSet( this, first, child ) );
+
+        return child;
+    }
+
+    public void incrementAvailability(){
+        AVAILABILITY.incrementAndGet( this );
+    }
+
+    public void update( double a_reward ){
+        VISITS.incrementAndGet( this );
+        TOTAL_REWARD.addAndGet( this, Math.round( a_reward * REWARD_UNIT ) );
+    }
+
+    /**
+     Count a visit with no reward while a playout through the node is still running, so that other
+     threads are steered towards other nodes. updateAfterVirtualLoss finishes the visit
+     */
+    public void addVirtualLoss(){
+        VISITS.incrementAndGet( this );
+    }
+
+    /**
+     Add the reward of a playout whose visit was already counted by addVirtualLoss
+     */
+    public void updateAfterVirtualLoss( double a_reward ){
+        TOTAL_REWARD.addAndGet( this, Math.round( a_reward * REWARD_UNIT ) );
+    }
+}
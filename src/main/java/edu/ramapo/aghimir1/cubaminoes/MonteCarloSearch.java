@@ -0,0 +1,525 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.SplittableRandom;
+
+/**
+ Information set Monte Carlo tree search. The player to move knows his own hand, the table, the pass
+ flags and how many tiles the opponent and the stock hold, but not which tiles they are. Every
+ playout deals the unseen tiles at random between the opponent's hand and the stock, walks down one
+ shared tree using the moves that are legal in that deal, and finishes the round with random moves.
+ Given the probabilities of an OpponentModel, the opponent's hand is dealt with them instead of
+ uniformly.
+
+ A search keeps its buffers between decisions, so one object should not be used by two threads at
+ a time.
+ */
+public class MonteCarloSearch {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final int DEFAULT_PLAYOUTS = 4000;
+    public static final double DEFAULT_EXPLORATION = 0.7;
+    // Point difference at which a round's reward is halfway between a tie and a certain win
+    private static final double POINTS_SCALE = 20.0;
+    public static final long NO_DEADLINE = 0;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private int m_playouts;
+    private double m_exploration;
+    private SplittableRandom m_random;
+    private GameState m_state;     // The deal the current playout is played on
+    private int [] m_moves;
+    private int [] m_unseen;       // TileSet ids of the tiles the player to move can't see
+    private double [] m_handProbabilities;   // Indexed by TileSet id, or null to deal uniformly
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    MonteCarloSearch( int a_playouts ){
+        this( a_playouts, DEFAULT_EXPLORATION, new SplittableRandom() );
+    }
+
+    MonteCarloSearch( int a_playouts, double a_exploration, SplittableRandom a_random ){
+        m_playouts = a_playouts;
+        m_exploration = a_exploration;
+        m_random = a_random;
+        m_state = new GameState();
+        m_moves = new int[MoveGenerator.MAX_MOVES];
+        m_unseen = new int[TileSet.NUM_TILES];
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getPlayouts() { return m_playouts; }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+
+    /**
+     Set how likely each unseen tile is to be in the opponent's hand, for the searches that follow
+     @param a_probabilities TileSet.NUM_TILES probabilities indexed by TileSet id, as given by
+     OpponentModel.getHandProbabilities, or null to deal the unseen tiles uniformly. The values
+     are copied
+     */
+    public void setHandProbabilities( double [] a_probabilities ){
+        if( a_probabilities == null ){
+            m_handProbabilities = null;
+            return;
+        }
+
+        if( m_handProbabilities == null )
+            m_handProbabilities = new double[TileSet.NUM_TILES];
+        System.arraycopy( a_probabilities, 0, m_handProbabilities, 0, TileSet.NUM_TILES );
+    }
+
+    /**/
+    /*
+    search
+
+    NAME
+
+        search - Choose a move for the player whose turn it is
+
+    SYNOPSIS
+
+        public int search( GameState a_observed )
+            a_observed - the round as it is. Only the parts the player to move can see are used
+
+    DESCRIPTION
+
+        Build a tree from m_playouts playouts and return the root move that was visited the most.
+        If the player has a single legal move, it is returned without searching
+
+    RETURNS
+
+        The chosen move, encoded as in Move. Move.NONE if the round is over, or if the numbers of
+        tiles in a_observed do not add up, for instance before the engine is placed
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int search( GameState a_observed ){
+        if( a_observed.isRoundOver() )
+            return Move.NONE;
+
+        if( a_observed.generateMoves( m_moves ) == 1 )
+            return m_moves[0];
+
+        MctsNode root = buildTree( a_observed, m_playouts );
+
+        if( root == null )
+            return Move.NONE;
+
+        return getMostVisitedMove( root );
+    }
+
+    /**/
+    /*
+    buildTree
+
+    NAME
+
+        buildTree - Run a number of playouts from a position and return the tree they built
+
+    SYNOPSIS
+
+        MctsNode buildTree( GameState a_observed, int a_playouts )
+            a_observed - the round as it is
+            a_playouts - number of playouts to run
+
+    DESCRIPTION
+
+        Create a root for the player to move and run the playouts on it with runPlayouts
+
+    RETURNS
+
+        The root of the tree, or null if there is nothing to search
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    MctsNode buildTree( GameState a_observed, int a_playouts ){
+        MctsNode root = createRoot( a_observed );
+
+        if( root == null || !runPlayouts( a_observed, root, a_playouts, NO_DEADLINE, false ) )
+            return null;
+
+        return root;
+    }
+
+    /**
+     Create the root of a tree for the player to move
+     @return the root, or null if the round is over
+     */
+    static MctsNode createRoot( GameState a_observed ){
+        if( a_observed.isRoundOver() )
+            return null;
+
+        return new MctsNode( Move.NONE, 1 - a_observed.getTurn(), null );
+    }
+
+    /**/
+    /*
+    runPlayouts
+
+    NAME
+
+        runPlayouts - Run playouts on a tree until a number of them is done or time runs out
+
+    SYNOPSIS
+
+        boolean runPlayouts( GameState a_observed, MctsNode a_root, int a_playouts, long a_deadline,
+                             boolean a_virtualLoss )
+            a_observed - the round as it is
+            a_root - root of the tree, created by createRoot for a_observed
+            a_playouts - number of playouts to run
+            a_deadline - System.nanoTime() value after which no new playout starts, or NO_DEADLINE
+            a_virtualLoss - true if other threads search the same tree at the same time
+
+    DESCRIPTION
+
+        Each playout deals the unseen tiles, selects its way down the tree, adds one node, plays
+        random moves to the end of the round and adds its reward to every node on its path. When
+        several threads share the tree, every node on the path takes a virtual loss on the way down,
+        so that the threads spread out over different parts of the tree
+
+    RETURNS
+
+        false if the numbers of tiles in a_observed do not add up. true otherwise
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    boolean runPlayouts( GameState a_observed, MctsNode a_root, int a_playouts, long a_deadline, boolean a_virtualLoss ){
+        int player = a_observed.getTurn();
+        int unseenCount = collectUnseen( a_observed, player );
+
+        if( unseenCount < 0 )
+            return false;
+
+        for(int i = 0; i < a_playouts; i++){
+            if( a_deadline != NO_DEADLINE && System.nanoTime() - a_deadline > 0 )
+                break;
+
+            determinize( a_observed, player, unseenCount );
+            MctsNode leaf = selectAndExpand( a_root, a_virtualLoss );
+            playOut();
+            backPropagate( leaf, getReward( m_state, Side.LEFT_INDEX ), a_virtualLoss );
+        }
+
+        return true;
+    }
+
+    // Put the ids of the unseen tiles in m_unseen. Returns how many there are, or -1 if they are not
+    // exactly the opponent's hand and the stock
+    private int collectUnseen( GameState a_observed, int a_player ){
+        long unseen = a_observed.getUnseenMask( a_player );
+        int count = 0;
+
+        if( TileSet.size(unseen) != a_observed.getHandSize(1 - a_player) + a_observed.getStockSize() )
+            return -1;
+
+        for(long rest = unseen; rest != TileSet.EMPTY; rest &= rest - 1)
+            m_unseen[count++] = Long.numberOfTrailingZeros( rest );
+
+        return count;
+    }
+
+    /**/
+    /*
+    determinize
+
+    NAME
+
+        determinize - Deal the unseen tiles for one playout
+
+    SYNOPSIS
+
+        private void determinize( GameState a_observed, int a_player, int a_unseenCount )
+            a_observed - the round as it is
+            a_player - side index of the player who is searching
+            a_unseenCount - number of ids in m_unseen
+
+    DESCRIPTION
+
+        Copy a_observed into m_state, shuffle the unseen tiles and give the opponent as many of them
+        as he really holds. The rest become the stock, in the shuffled order. With hand
+        probabilities set, the opponent's tiles are drawn one at a time, each unseen tile as likely
+        as its probability. A tile with probability 0 is only dealt to the opponent when there
+        aren't enough other tiles to make up the hand
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    private void determinize( GameState a_observed, int a_player, int a_unseenCount ){
+        m_state.copyFrom( a_observed );
+
+        for(int i = a_unseenCount - 1; i > 0; i--){
+            int j = m_random.nextInt( i + 1 );
+            int id = m_unseen[i];
+            m_unseen[i] = m_unseen[j];
+            m_unseen[j] = id;
+        }
+
+        int opponentHandSize = a_observed.getHandSize( 1 - a_player );
+        if( m_handProbabilities != null )
+            dealByProbability( opponentHandSize, a_unseenCount );
+
+        long opponentHand = TileSet.EMPTY;
+        for(int i = 0; i < opponentHandSize; i++)
+            opponentHand = TileSet.add( opponentHand, m_unseen[i] );
+
+        m_state.setHand( 1 - a_player, opponentHand );
+        m_state.setStock( m_unseen, opponentHandSize, a_unseenCount - opponentHandSize );
+    }
+
+    // Move the opponent's hand to the front of m_unseen, drawing a tile at a time with weights
+    // m_handProbabilities. Whatever the weights can't fill stays as shuffled
+    private void dealByProbability( int a_handSize, int a_unseenCount ){
+        for(int i = 0; i < a_handSize; i++){
+            double total = 0;
+            for(int j = i; j < a_unseenCount; j++)
+                total += m_handProbabilities[m_unseen[j]];
+
+            if( total <= 0 )
+                return;
+
+            double target = m_random.nextDouble() * total;
+            int chosen = i;
+            for(int j = i; j < a_unseenCount; j++){
+                double weight = m_handProbabilities[m_unseen[j]];
+                if( weight <= 0 )
+                    continue;
+
+                // Rounding can leave target at 0 after the last tile, which then is the one chosen
+                chosen = j;
+                target -= weight;
+                if( target < 0 )
+                    break;
+            }
+
+            int id = m_unseen[i];
+            m_unseen[i] = m_unseen[chosen];
+            m_unseen[chosen] = id;
+        }
+    }
+
+    /**/
+    /*
+    selectAndExpand
+
+    NAME
+
+        selectAndExpand - Walk down the tree in the current deal and add one node
+
+    SYNOPSIS
+
+        private MctsNode selectAndExpand( MctsNode a_root, boolean a_virtualLoss )
+            a_root - root of the tree
+            a_virtualLoss - true if every node on the walk should take a virtual loss
+
+    DESCRIPTION
+
+        At each node, the moves legal in the current deal are listed. If one of them has no child
+        yet, a random such move is added to the tree and the walk stops. Otherwise every legal
+        child gets one more availability and the walk goes on to the child with the best UCB score.
+        The moves are applied to m_state on the way down. If another thread is adding the only
+        children the deal allows, the walk stops where it is
+
+    RETURNS
+
+        The last node of the walk
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    private MctsNode selectAndExpand( MctsNode a_root, boolean a_virtualLoss ){
+        MctsNode node = a_root;
+
+        if( a_virtualLoss )
+            node.addVirtualLoss();
+
+        while( !m_state.isRoundOver() ){
+            int count = m_state.generateMoves( m_moves );
+            int untried = 0;
+
+            // Move the legal moves without a child to the front of m_moves
+            for(int i = 0; i < count; i++){
+                if( !node.hasChild( m_moves[i] ) ){
+                    int move = m_moves[i];
+                    m_moves[i] = m_moves[untried];
+                    m_moves[untried++] = move;
+                }
+            }
+
+            int player = m_state.getTurn();
+            MctsNode next = null;
+
+            if( untried > 0 ){
+                int move = m_moves[ m_random.nextInt(untried) ];
+                next = node.addChild( move, player );
+
+                if( next != null ){
+                    if( a_virtualLoss )
+                        next.addVirtualLoss();
+                    m_state.applyMove( move );
+                    return next;
+                }
+            }
+
+            next = selectChild( node, count );
+            if( next == null )
+                return node;
+
+            node = next;
+            if( a_virtualLoss )
+                node.addVirtualLoss();
+            m_state.applyMove( node.getMove() );
+        }
+
+        return node;
+    }
+
+    // Among the children whose move is in the first a_count entries of m_moves, pick the one with
+    // the best UCB score. Every one of them was available in this playout
+    private MctsNode selectChild( MctsNode a_node, int a_count ){
+        MctsNode best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        for(MctsNode child = a_node.getFirstChild(); child != null; child = child.getNextSibling()){
+            if( !isListed( child.getMove(), a_count ) )
+                continue;
+
+            child.incrementAvailability();
+            double score = child.getUcbScore( m_exploration );
+            if( best == null || score > bestScore ){
+                best = child;
+                bestScore = score;
+            }
+        }
+
+        return best;
+    }
+
+    private boolean isListed( int a_move, int a_count ){
+        for(int i = 0; i < a_count; i++){
+            if( m_moves[i] == a_move )
+                return true;
+        }
+
+        return false;
+    }
+
+    // Finish the round in m_state with uniformly random moves
+    private void playOut(){
+        while( !m_state.isRoundOver() ){
+            int count = m_state.generateMoves( m_moves );
+            m_state.applyMove( m_moves[ m_random.nextInt(count) ] );
+        }
+    }
+
+    // Add the reward of each node's player to every node from a_leaf up to the root
+    private static void backPropagate( MctsNode a_leaf, double a_leftReward, boolean a_virtualLoss ){
+        for(MctsNode node = a_leaf; node != null; node = node.getParent()){
+            double reward = node.getPlayer() == Side.LEFT_INDEX? a_leftReward: 1.0 - a_leftReward;
+
+            if( a_virtualLoss )
+                node.updateAfterVirtualLoss( reward );
+            else
+                node.update( reward );
+        }
+    }
+
+    /**/
+    /*
+    getReward
+
+    NAME
+
+        getReward - Turn the result of a finished round into a reward between 0 and 1
+
+    SYNOPSIS
+
+        static double getReward( GameState a_state, int a_side )
+            a_state - a round that is over
+            a_side - side index of the player whose reward is computed
+
+    DESCRIPTION
+
+        A tie is worth 0.5. Winning by more points is worth more, but the reward grows slower as
+        the margin grows, so that a few big wins don't outweigh many losses. The rewards of the two
+        players always add up to 1
+
+    RETURNS
+
+        The player's reward
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    static double getReward( GameState a_state, int a_side ){
+        int difference = a_state.getRoundPoints( a_side ) - a_state.getRoundPoints( 1 - a_side );
+
+        return 0.5 + 0.5 * difference / ( Math.abs(difference) + POINTS_SCALE );
+    }
+
+    /**
+     Get the move of the root's child that was visited the most
+     @return the move, or Move.NONE if the root has no children
+     */
+    static int getMostVisitedMove( MctsNode a_root ){
+        MctsNode best = null;
+
+        for(MctsNode child = a_root.getFirstChild(); child != null; child = child.getNextSibling()){
+            if( best == null || child.getVisits() > best.getVisits() )
+                best = child;
+        }
+
+        return best == null? Move.NONE: best.getMove();
+    }
+}
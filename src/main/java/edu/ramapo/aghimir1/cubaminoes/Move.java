@@ -0,0 +1,147 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ A move packed into the low 7 bits of an int, so that moves can be kept in primitive arrays and
+ written as single bytes.
+
+   bits 0-4  the TileSet id of the placed tile, or PASS / DRAW
+   bit 5     the side the tile is placed on (Side.LEFT_INDEX or Side.RIGHT_INDEX)
+   bit 6     set if the tile is laid with its higher stone on the left
+
+ The class only has static functions working on int values.
+ */
+public final class Move {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final int PASS = 31;
+    public static final int DRAW = 30;
+    public static final int NONE = -1;
+
+    // Every move fits in a byte
+    public static final int NUM_MOVE_CODES = 128;
+
+    private static final int TILE_BITS = 0x1F;
+    private static final int SIDE_SHIFT = 5;
+    private static final int FLIPPED_BIT = 1 << 6;
+
+    private Move(){
+    }
+
+    /**/
+    /*
+    placement
+
+    NAME
+
+        placement - Encode placing a tile on a side whose open stone is known
+
+    SYNOPSIS
+
+        public static int placement( int a_tileId, int a_side, int a_openStone )
+            a_tileId - TileSet id of the tile to place
+            a_side - Side.LEFT_INDEX or Side.RIGHT_INDEX
+            a_openStone - the open stone of the side. The tile must have this stone on one end
+
+    DESCRIPTION
+
+        On the right side, the tile's left stone has to touch the open stone. On the left side, the
+        tile's right stone has to. So the tile is flipped (higher stone on the left) when its lower
+        stone does not touch the open stone on the right side, or when its higher stone does not
+        touch the open stone on the left side. A double is never flipped
+
+    RETURNS
+
+        The encoded move
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static int placement( int a_tileId, int a_side, int a_openStone ){
+        boolean flipped;
+
+        if( a_side == Side.RIGHT_INDEX )
+            flipped = TileSet.getLowStone(a_tileId) != a_openStone;
+        else
+            flipped = TileSet.getHighStone(a_tileId) != a_openStone;
+
+        return a_tileId | (a_side << SIDE_SHIFT) | (flipped? FLIPPED_BIT: 0);
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public static boolean isPlacement( int a_move ){
+        return a_move >= 0 && (a_move & TILE_BITS) < TileSet.NUM_TILES;
+    }
+
+    public static boolean isPass( int a_move ){
+        return a_move == PASS;
+    }
+
+    public static boolean isDraw( int a_move ){
+        return a_move == DRAW;
+    }
+
+    public static int getTileId( int a_move ){
+        return a_move & TILE_BITS;
+    }
+
+    public static int getSide( int a_move ){
+        return (a_move >> SIDE_SHIFT) & 1;
+    }
+
+    public static boolean isFlipped( int a_move ){
+        return (a_move & FLIPPED_BIT) != 0;
+    }
+
+    /**
+     Get the side of a placement as the string used by Table and Player
+     @return Player.LEFT or Player.RIGHT
+     */
+    public static String getSideString( int a_move ){
+        return getSide(a_move) == Side.LEFT_INDEX? Player.LEFT: Player.RIGHT;
+    }
+
+    /**
+     Get the tile of a placement with its stones in the order it lies on the table
+     */
+    public static Tile getPlacedTile( int a_move ){
+        int id = getTileId(a_move);
+
+        if( isFlipped(a_move) )
+            return Tile.valueOf( TileSet.getHighStone(id), TileSet.getLowStone(id) );
+
+        return Tile.valueOf( TileSet.getLowStone(id), TileSet.getHighStone(id) );
+    }
+
+    /**
+     Get the open stone of the side a tile was placed on, after the placement
+     */
+    public static int getNewOpenStone( int a_move ){
+        int id = getTileId(a_move);
+        boolean outerIsHigh = (getSide(a_move) == Side.RIGHT_INDEX) != isFlipped(a_move);
+
+        return outerIsHigh? TileSet.getHighStone(id): TileSet.getLowStone(id);
+    }
+
+    public static String toString( int a_move ){
+        if( a_move == PASS )
+            return "pass";
+
+        if( a_move == DRAW )
+            return "draw";
+
+        if( !isPlacement(a_move) )
+            return "none";
+
+        return getPlacedTile(a_move).toString() + " on " + getSideString(a_move);
+    }
+}
@@ -0,0 +1,143 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ Lists the legal moves of a position into an int array supplied by the caller, using the encoding
+ of the Move class. Nothing is allocated, so search code can call it for every node it visits.
+
+ The rules are the ones Player.canPlaceTiles and Round.verifySide check:
+   - a tile can go on a side if one of its stones equals the side's open stone
+   - a double can go on either side
+   - a non-double can go on the opponent's side only if the opponent passed in his previous turn
+ */
+public final class MoveGenerator {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Every tile on both sides, plus a draw or a pass
+    public static final int MAX_MOVES = 2 * TileSet.NUM_TILES + 1;
+
+    private MoveGenerator(){
+    }
+
+    /**/
+    /*
+    generatePlacements
+
+    NAME
+
+        generatePlacements - List every tile a player can legally place and where
+
+    SYNOPSIS
+
+        public static int generatePlacements( long a_hand, int a_leftOpenStone, int a_rightOpenStone,
+                                              int a_playersSide, boolean a_opponentPassed, int [] a_moves )
+            a_hand - the player's hand as a TileSet
+            a_leftOpenStone - open stone of the table's left side
+            a_rightOpenStone - open stone of the table's right side
+            a_playersSide - Side.LEFT_INDEX or Side.RIGHT_INDEX, the player's own side
+            a_opponentPassed - true if the opponent passed in his previous turn
+            a_moves - array the moves are written to, starting at index 0. It needs room for
+                      MAX_MOVES moves
+
+    DESCRIPTION
+
+        For each side, the tiles that can go there are the hand's tiles with the side's open stone,
+        limited to doubles if the side is the opponent's and the opponent did not pass. A tile that
+        fits both sides gives two moves. Moves are written left side first, in tile id order
+
+    RETURNS
+
+        The number of moves written to a_moves
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static int generatePlacements( long a_hand, int a_leftOpenStone, int a_rightOpenStone,
+                                          int a_playersSide, boolean a_opponentPassed, int [] a_moves ){
+        int count = 0;
+
+        for(int side = Side.LEFT_INDEX; side <= Side.RIGHT_INDEX; side++){
+            int openStone = side == Side.LEFT_INDEX? a_leftOpenStone: a_rightOpenStone;
+            long candidates = a_hand & TileSet.pipMask( openStone );
+
+            if( side != a_playersSide && !a_opponentPassed )
+                candidates &= TileSet.doublesMask();
+
+            for(long rest = candidates; rest != TileSet.EMPTY; rest &= rest - 1){
+                int tileId = Long.numberOfTrailingZeros( rest );
+                a_moves[count++] = Move.placement( tileId, side, openStone );
+            }
+        }
+
+        return count;
+    }
+
+    /**/
+    /*
+    generateMoves
+
+    NAME
+
+        generateMoves - List every move a player can make in his turn, including draws and passes
+
+    SYNOPSIS
+
+        public static int generateMoves( long a_hand, int a_leftOpenStone, int a_rightOpenStone,
+                                         int a_playersSide, boolean a_opponentPassed,
+                                         int a_tileDrawn, boolean a_stockEmpty, int [] a_moves )
+            a_tileDrawn - number of tiles the player already drew in this turn
+            a_stockEmpty - true if the stock is empty
+            the other parameters are the ones of generatePlacements
+
+    DESCRIPTION
+
+        If the player can place a tile, the placements are the only moves. Otherwise, the player
+        draws a tile if he has not drawn one in this turn and the stock is not empty, and passes
+        if he can't draw. This is the order Player.getOptimalMoveOption follows, so there is
+        always at least one move
+
+    RETURNS
+
+        The number of moves written to a_moves
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static int generateMoves( long a_hand, int a_leftOpenStone, int a_rightOpenStone,
+                                     int a_playersSide, boolean a_opponentPassed,
+                                     int a_tileDrawn, boolean a_stockEmpty, int [] a_moves ){
+        int count = generatePlacements( a_hand, a_leftOpenStone, a_rightOpenStone, a_playersSide, a_opponentPassed, a_moves );
+
+        if( count > 0 )
+            return count;
+
+        a_moves[0] = (a_tileDrawn == 0 && !a_stockEmpty)? Move.DRAW: Move.PASS;
+        return 1;
+    }
+
+    /**
+     List the tiles a player can legally place on the table of a round
+     @param a_player the player about to move
+     @param a_table the round's table
+     @param a_opponentPassed true if the opponent passed in his previous turn
+     @param a_moves array with room for MAX_MOVES moves
+     @return the number of moves written to a_moves
+     */
+    public static int generatePlacements( Player a_player, Table a_table, boolean a_opponentPassed, int [] a_moves ){
+        return generatePlacements( a_player.getHandMask(), a_table.getLeftSide().getOpenStone(),
+                a_table.getRightSide().getOpenStone(), a_player.getSideIndex(), a_opponentPassed, a_moves );
+    }
+}
@@ -0,0 +1,475 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ An append-only autosave of the current round. The journal starts with a TournamentSnapshot of
+ the round, taken once its engine is on the table, and then holds one byte for every move made:
+
+   SNAPSHOT_RECORD, length, snapshot     a snapshot of the whole tournament
+   move                                  a move encoded as in Move, always below SNAPSHOT_RECORD
+
+ Each move is written to the file on the thread that makes it, as soon as it is made, so it
+ survives the app being killed. Everything slower runs on one background thread: the file is
+ synced to the storage after every few moves, and when the journal is synced or closed. After a
+ number of moves the journal is compacted: a fresh snapshot, taken on the thread that makes the
+ move, is written to a new file in the background, which then replaces the journal, so the journal
+ never grows beyond one snapshot and a few dozen moves. The moves made while the new file is being
+ written are kept in memory and appended to it before it replaces the journal.
+
+ Recovery reads the last snapshot in the journal and replays the moves after it with
+ Round.applyMove. A record cut short by a crash ends the replay.
+ */
+public class MoveJournal implements MoveListener {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final String FILE_EXTENSION = ".journal";
+
+    public static final int DEFAULT_SYNC_INTERVAL = 8;
+    public static final int DEFAULT_COMPACTION_INTERVAL = 64;
+
+    private static final int SNAPSHOT_RECORD = 0xFF;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private File m_file;
+    private int m_syncInterval;        // Moves between syncs
+    private int m_compactionInterval;  // Moves between snapshots
+    private Tournament m_tournament;
+    private int m_unsyncedMoves;
+    private int m_movesSinceSnapshot;
+    private final ExecutorService m_executor;
+
+    // Shared with the background thread, guarded by this journal
+    private FileOutputStream m_out;    // null until the first snapshot is written
+    private ByteArrayOutputStream m_pendingMoves;  // Moves made since the snapshot being written
+    private int m_generation;          // Counts the snapshots taken, so that only the newest is written
+    private volatile IOException m_error;  // The first write that failed. The journal stops after it
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public MoveJournal( String a_fileName ){
+        this( a_fileName, DEFAULT_SYNC_INTERVAL, DEFAULT_COMPACTION_INTERVAL );
+    }
+
+    public MoveJournal( String a_fileName, int a_syncInterval, int a_compactionInterval ){
+        m_file = new File( a_fileName );
+        m_syncInterval = Math.max( 1, a_syncInterval );
+        m_compactionInterval = Math.max( 1, a_compactionInterval );
+        m_executor = Executors.newSingleThreadExecutor( new ThreadFactory() {
+            @Override
+            public Thread newThread( Runnable a_runnable ){
+                Thread thread = new Thread( a_runnable, "MoveJournal" );
+                thread.setDaemon( true );
+                return thread;
+            }
+        } );
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+
+    /**
+     Selector for the error that stopped the journal
+     @return the exception of the first write that failed, or null if every write succeeded so far.
+     The writes on the background thread report here once they end
+     */
+    public IOException getError(){
+        return m_error;
+    }
+
+    public int getMovesSinceSnapshot(){
+        return m_movesSinceSnapshot;
+    }
+
+    /* *********************************************
+    Writing
+    ********************************************* */
+
+    /**/
+    /*
+    start
+
+    NAME
+
+        start - Start journaling the current round of a tournament
+
+    SYNOPSIS
+
+        public void start( Tournament a_tournament )
+            a_tournament - the tournament whose current round has its engine on the table
+
+    DESCRIPTION
+
+        Take a snapshot of the tournament to replace the journal with, and listen to the moves of
+        its current round. Called again when a new round starts. The snapshot is written in the
+        background; the moves of the new round are not appended to the journal of the old one
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void start( Tournament a_tournament ){
+        if( m_tournament != null && m_tournament.getCurrentRound() != a_tournament.getCurrentRound() )
+            m_tournament.getCurrentRound().setMoveListener( null );
+
+        m_tournament = a_tournament;
+        m_error = null;
+
+        final FileOutputStream previous;
+        synchronized( this ){
+            previous = m_out;
+            m_out = null;
+        }
+
+        if( previous != null ){
+            execute( new Runnable() {
+                @Override
+                public void run(){
+                    closeQuietly( previous );
+                }
+            } );
+        }
+
+        compact();
+        m_tournament.getCurrentRound().setMoveListener( this );
+    }
+
+    @Override
+    public void moveMade( Round a_round, int a_player, int a_move ){
+        if( m_tournament == null || m_error != null )
+            return;
+
+        synchronized( this ){
+            if( m_pendingMoves != null )
+                m_pendingMoves.write( a_move );
+
+            if( m_out != null ){
+                try{
+                    m_out.write( a_move );
+                }
+                catch( IOException e ){
+                    m_error = e;
+                    return;
+                }
+            }
+        }
+
+        m_movesSinceSnapshot++;
+
+        if( m_movesSinceSnapshot >= m_compactionInterval )
+            compact();
+        else if( ++m_unsyncedMoves >= m_syncInterval )
+            sync();
+    }
+
+    /**
+     Make sure every move written so far reaches the storage. The sync runs in the background
+     */
+    public void sync(){
+        m_unsyncedMoves = 0;
+
+        execute( new Runnable() {
+            @Override
+            public void run(){
+                FileOutputStream out;
+                synchronized( MoveJournal.this ){
+                    out = m_out;
+                }
+
+                // Only this thread closes the file, so it stays open while it is synced
+                if( out == null )
+                    return;
+
+                try{
+                    out.getFD().sync();
+                }
+                catch( IOException e ){
+                    fail( e );
+                }
+            }
+        } );
+    }
+
+    /**/
+    /*
+    compact
+
+    NAME
+
+        compact - Replace the journal with a snapshot of the tournament as it is now
+
+    SYNOPSIS
+
+        public void compact()
+
+    DESCRIPTION
+
+        Take the snapshot on the calling thread. In the background, write it to a temporary file
+        and sync it, append the moves made in the meantime and rename the file over the journal.
+        A crash at any point leaves either the old journal or the new one, both complete. A
+        snapshot that a newer one replaces before its write starts is dropped
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void compact(){
+        final byte [] snapshot = TournamentSnapshot.write( m_tournament );
+        final int generation;
+
+        synchronized( this ){
+            generation = ++m_generation;
+            m_pendingMoves = new ByteArrayOutputStream();
+        }
+        m_unsyncedMoves = 0;
+        m_movesSinceSnapshot = 0;
+
+        execute( new Runnable() {
+            @Override
+            public void run(){
+                try{
+                    writeSnapshot( generation, snapshot );
+                }
+                catch( IOException e ){
+                    fail( e );
+                }
+            }
+        } );
+    }
+
+    // Runs in the background. Write a snapshot and make it the journal, unless a newer one was taken
+    private void writeSnapshot( int a_generation, byte [] a_snapshot ) throws IOException {
+        synchronized( this ){
+            if( a_generation != m_generation )
+                return;
+        }
+
+        File temporary = new File( m_file.getPath() + TEMPORARY_SUFFIX );
+        FileOutputStream out = new FileOutputStream( temporary );
+        FileOutputStream previous;
+
+        try{
+            out.write( SNAPSHOT_RECORD );
+            out.write( a_snapshot.length );
+            out.write( a_snapshot );
+            out.getFD().sync();
+
+            // The moves are written on the calling thread from now on, so none is missed between
+            // the copy of the pending moves and the swap of the file
+            synchronized( this ){
+                if( a_generation != m_generation ){
+                    out.close();
+                    return;
+                }
+
+                m_pendingMoves.writeTo( out );
+                if( !temporary.renameTo( m_file ) )
+                    throw new IOException( "Could not replace " + m_file );
+
+                previous = m_out;
+                m_out = out;
+                m_pendingMoves = null;
+            }
+        }
+        catch( IOException e ){
+            closeQuietly( out );
+            throw e;
+        }
+
+        // The renamed file stays open for appending, and the old journal is no longer needed
+        closeQuietly( previous );
+    }
+
+    /**
+     Sync and close the journal file once the pending writes end, and stop the background thread.
+     The journal stays on the storage for recovery, and can't be started again
+     */
+    public void close(){
+        if( m_tournament != null )
+            m_tournament.getCurrentRound().setMoveListener( null );
+
+        execute( new Runnable() {
+            @Override
+            public void run(){
+                FileOutputStream out;
+                synchronized( MoveJournal.this ){
+                    out = m_out;
+                    m_out = null;
+                }
+
+                if( out == null )
+                    return;
+
+                try{
+                    out.getFD().sync();
+                }
+                catch( IOException e ){
+                    fail( e );
+                }
+                finally{
+                    closeQuietly( out );
+                }
+            }
+        } );
+
+        m_executor.shutdown();
+    }
+
+    /**
+     Wait for the background writes of a closed journal to end
+     @param a_timeoutMillis the longest time to wait, in milliseconds
+     @return true if every write ended, false if the time ran out
+     */
+    public boolean awaitClose( long a_timeoutMillis ) throws InterruptedException {
+        return m_executor.awaitTermination( a_timeoutMillis, TimeUnit.MILLISECONDS );
+    }
+
+    /* *********************************************
+    Utility functions
+    ********************************************* */
+    private void execute( Runnable a_task ){
+        if( !m_executor.isShutdown() )
+            m_executor.execute( a_task );
+    }
+
+    private void fail( IOException a_error ){
+        if( m_error == null )
+            m_error = a_error;
+    }
+
+    private static void closeQuietly( FileOutputStream a_out ){
+        if( a_out == null )
+            return;
+
+        try{
+            a_out.close();
+        }
+        catch( IOException e ){
+            // The file is no longer the journal, or was synced before it is let go
+        }
+    }
+
+    /* *********************************************
+    Recovery
+    ********************************************* */
+
+    /**/
+    /*
+    recover
+
+    NAME
+
+        recover - Rebuild a tournament from a journal
+
+    SYNOPSIS
+
+        public static Tournament recover( String a_fileName )
+            a_fileName - absolute path of the journal
+
+    DESCRIPTION
+
+        Find the last complete snapshot in the journal and replay every move after it on its
+        round. The replay stops at a record cut short by a crash, or at a move the round does not
+        accept
+
+    RETURNS
+
+        The tournament with its round as it was after the last move in the journal
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static Tournament recover( String a_fileName ) throws IOException {
+        byte [] journal = readFile( new File( a_fileName ) );
+
+        // Find the last snapshot that is complete
+        int snapshotStart = -1;
+        int pos = 0;
+        while( pos < journal.length ){
+            if( (journal[pos] & 0xFF) != SNAPSHOT_RECORD ){
+                pos++;
+                continue;
+            }
+
+            if( pos + 1 >= journal.length || pos + 2 + (journal[pos + 1] & 0xFF) > journal.length )
+                break;
+
+            snapshotStart = pos;
+            pos += 2 + (journal[pos + 1] & 0xFF);
+        }
+
+        if( snapshotStart < 0 )
+            throw new IOException( "The journal has no snapshot" );
+
+        int snapshotLength = journal[snapshotStart + 1] & 0xFF;
+        byte [] snapshot = new byte[snapshotLength];
+        System.arraycopy( journal, snapshotStart + 2, snapshot, 0, snapshotLength );
+
+        Tournament tournament = TournamentSnapshot.read( snapshot );
+        Round round = tournament.getCurrentRound();
+
+        for(int i = snapshotStart + 2 + snapshotLength; i < journal.length; i++){
+            if( (journal[i] & 0xFF) == SNAPSHOT_RECORD || !round.applyMove( journal[i] ) )
+                break;
+        }
+
+        return tournament;
+    }
+
+    private static byte [] readFile( File a_file ) throws IOException {
+        byte [] bytes = new byte[(int) a_file.length()];
+        InputStream in = new FileInputStream( a_file );
+
+        try{
+            int length = 0;
+            int count;
+            while( length < bytes.length && (count = in.read( bytes, length, bytes.length - length )) > 0 )
+                length += count;
+        }
+        finally{
+            in.close();
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,17 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ Told by a Round about every valid move made in it, whether the move came from a player or from
+ Round.applyMove
+ */
+public interface MoveListener {
+
+    /**
+     Called right after a valid move
+     @param a_round the round, as it is after the move
+     @param a_player Side.LEFT_INDEX for the round's human player, Side.RIGHT_INDEX for its computer
+     player
+     @param a_move the move, encoded as in Move
+     */
+    void moveMade( Round a_round, int a_player, int a_move );
+}
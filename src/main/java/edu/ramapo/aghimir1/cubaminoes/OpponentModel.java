@@ -0,0 +1,281 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ What one player can infer about the tiles she/he can't see. Every unseen tile is either in the
+ opponent's hand or in the stock, and the model keeps the probability of each unseen tile being in
+ the opponent's hand, indexed by TileSet id. The rules make the opponent's moves tell something:
+
+   pass or draw    the opponent had no tile that could be placed, so none of the tiles that fit the
+                   table is in her/his hand (a drawn tile may bring one back)
+   draw            one tile went from the stock to the opponent's hand, each stock tile as likely as
+                   any other
+   placement       the tile is on the table, and the opponent's hand is a tile smaller
+
+ and a tile the player draws himself leaves the stock. After every move the probabilities are
+ scaled to add up to the size of the opponent's hand, none of them above 1. The probabilities are
+ marginals, so they are exact after draws and placements and close after the scaling.
+
+ A model follows one round through moveMade, the way a MoveListener does. When it is told about a
+ move of another round, or the numbers of tiles stop adding up, it starts over from a uniform guess.
+ */
+public class OpponentModel implements MoveListener {
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final int m_observer;            // Side index of the player whose view is modelled
+    private final double [] m_handProbabilities;
+    private long m_unseen;                   // TileSet of the tiles the observer can't see
+    private int m_handSize;                  // Tiles in the opponent's hand
+    private int m_stockSize;
+    private Round m_round;                   // The round being followed, or null
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    /**
+     @param a_observer Side.LEFT_INDEX for the round's human player, Side.RIGHT_INDEX for its
+     computer player
+     */
+    public OpponentModel( int a_observer ){
+        m_observer = a_observer;
+        m_handProbabilities = new double[TileSet.NUM_TILES];
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getObserver() { return m_observer; }
+
+    public long getUnseenMask() { return m_unseen; }
+
+    public int getHandSize() { return m_handSize; }
+
+    public int getStockSize() { return m_stockSize; }
+
+    public boolean isFollowing( Round a_round ) { return m_round == a_round; }
+
+    /**
+     @return the probability that the tile with TileSet id a_id is in the opponent's hand. 0 for a
+     tile the observer can see
+     */
+    public double getHandProbability( int a_id ){
+        return m_handProbabilities[a_id];
+    }
+
+    /**
+     @return the probability that the tile with TileSet id a_id is in the stock
+     */
+    public double getStockProbability( int a_id ){
+        return TileSet.contains( m_unseen, a_id )? 1 - m_handProbabilities[a_id]: 0;
+    }
+
+    /**
+     Copy the probabilities of every tile being in the opponent's hand
+     @param a_probabilities array of TileSet.NUM_TILES values, indexed by TileSet id
+     */
+    public void getHandProbabilities( double [] a_probabilities ){
+        System.arraycopy( m_handProbabilities, 0, a_probabilities, 0, TileSet.NUM_TILES );
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+
+    /**
+     Start following a round, knowing nothing but the number of tiles in the opponent's hand and in
+     the stock
+     @param a_round the round to follow
+     */
+    public void reset( Round a_round ){
+        m_round = a_round;
+        m_unseen = getUnseen( a_round );
+        m_handSize = getOpponent( a_round ).getHandSize();
+        m_stockSize = a_round.getStock().size();
+        setUniform( m_handSize );
+    }
+
+    /**/
+    /*
+    moveMade
+
+    NAME
+
+        moveMade - Update the probabilities after a move of the round
+
+    SYNOPSIS
+
+        public void moveMade( Round a_round, int a_player, int a_move )
+            a_round - the round, as it is after the move
+            a_player - Side.LEFT_INDEX for the round's human player, Side.RIGHT_INDEX for its
+                computer player
+            a_move - the move, encoded as in Move
+
+    DESCRIPTION
+
+        A pass or a draw leaves the table as it was, so the tiles that fit the opponent before the
+        move are the tiles that fit it now. They are ruled out of the hand she/he had before the
+        move, then a draw moves one tile from the stock to the hand. The tiles that left the unseen
+        tiles are found by comparing the unseen tiles before and after the move
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    @Override
+    public void moveMade( Round a_round, int a_player, int a_move ){
+        if( a_round != m_round ){
+            reset( a_round );
+            return;
+        }
+
+        long unseen = getUnseen( a_round );
+        long gone = m_unseen & ~unseen;
+
+        for(long rest = gone; rest != TileSet.EMPTY; rest &= rest - 1)
+            m_handProbabilities[Long.numberOfTrailingZeros( rest )] = 0;
+        m_unseen = unseen;
+
+        if( a_player == m_observer ){
+            // Only a draw changes what the observer sees
+            if( Move.isDraw(a_move) )
+                m_stockSize--;
+        }
+        else if( Move.isPlacement(a_move) ){
+            m_handSize--;
+        }
+        else{
+            ruleOut( getFittingTiles( a_round ) );
+
+            if( Move.isDraw(a_move) ){
+                drawFromStock();
+                m_handSize++;
+                m_stockSize--;
+            }
+        }
+
+        if( m_handSize != getOpponent( a_round ).getHandSize() || m_stockSize != a_round.getStock().size() ){
+            reset( a_round );
+            return;
+        }
+
+        scale( m_handSize );
+    }
+
+    /* *********************************************
+    Utility functions
+    ********************************************* */
+    private Player getObserverPlayer( Round a_round ){
+        return m_observer == Side.LEFT_INDEX? a_round.getHuman(): a_round.getComputer();
+    }
+
+    private Player getOpponent( Round a_round ){
+        return m_observer == Side.LEFT_INDEX? a_round.getComputer(): a_round.getHuman();
+    }
+
+    private long getUnseen( Round a_round ){
+        return TileSet.ALL & ~getObserverPlayer( a_round ).getHandMask() & ~a_round.getTable().getPlacedMask();
+    }
+
+    // The tiles the opponent could place on the table as it is: doubles on either side, other
+    // tiles on her/his own side, or on either side if the observer has passed
+    private long getFittingTiles( Round a_round ){
+        int leftStone = a_round.getTable().getLeftSide().getOpenStone();
+        int rightStone = a_round.getTable().getRightSide().getOpenStone();
+        int ownStone = m_observer == Side.LEFT_INDEX? rightStone: leftStone;
+        int otherStone = m_observer == Side.LEFT_INDEX? leftStone: rightStone;
+
+        long fitting = (TileSet.doublesMask() & (TileSet.pipMask(leftStone) | TileSet.pipMask(rightStone)))
+                | TileSet.pipMask( ownStone );
+        if( getObserverPlayer( a_round ).hasPassed() )
+            fitting |= TileSet.pipMask( otherStone );
+
+        return fitting;
+    }
+
+    // The opponent's hand holds none of a_tiles, and still holds m_handSize tiles
+    private void ruleOut( long a_tiles ){
+        for(long rest = a_tiles & m_unseen; rest != TileSet.EMPTY; rest &= rest - 1)
+            m_handProbabilities[Long.numberOfTrailingZeros( rest )] = 0;
+
+        scale( m_handSize );
+    }
+
+    // Each of the m_stockSize stock tiles is drawn with the same probability
+    private void drawFromStock(){
+        for(long rest = m_unseen; rest != TileSet.EMPTY; rest &= rest - 1){
+            int id = Long.numberOfTrailingZeros( rest );
+            m_handProbabilities[id] += (1 - m_handProbabilities[id]) / m_stockSize;
+        }
+    }
+
+    // Scale the probabilities below 1 so that all of them add up to a_total. If the evidence left
+    // too few tiles to make up the hand, go back to a uniform guess
+    private void scale( int a_total ){
+        for(int pass = 0; pass < TileSet.NUM_TILES; pass++){
+            double certain = 0;
+            double uncertain = 0;
+
+            for(long rest = m_unseen; rest != TileSet.EMPTY; rest &= rest - 1){
+                double probability = m_handProbabilities[Long.numberOfTrailingZeros( rest )];
+                if( probability >= 1 )
+                    certain += 1;
+                else
+                    uncertain += probability;
+            }
+
+            // Tiles clamped at 1 are only as certain as the evidence was then. If they already make
+            // up the hand, the other tiles aren't ruled out for it; all the tiles are scaled together
+            if( certain > a_total || (certain == a_total && uncertain > 0) ){
+                scaleAll( a_total / (certain + uncertain) );
+                return;
+            }
+
+            double missing = a_total - certain;
+            if( uncertain <= 0 ){
+                if( missing > 0 )
+                    setUniform( a_total );
+                return;
+            }
+
+            double factor = missing / uncertain;
+            boolean clamped = false;
+
+            for(long rest = m_unseen; rest != TileSet.EMPTY; rest &= rest - 1){
+                int id = Long.numberOfTrailingZeros( rest );
+                if( m_handProbabilities[id] < 1 ){
+                    m_handProbabilities[id] *= factor;
+                    if( m_handProbabilities[id] > 1 ){
+                        m_handProbabilities[id] = 1;
+                        clamped = true;
+                    }
+                }
+            }
+
+            if( !clamped )
+                return;
+        }
+    }
+
+    private void scaleAll( double a_factor ){
+        for(long rest = m_unseen; rest != TileSet.EMPTY; rest &= rest - 1)
+            m_handProbabilities[Long.numberOfTrailingZeros( rest )] *= a_factor;
+    }
+
+    private void setUniform( int a_total ){
+        int unseenCount = TileSet.size( m_unseen );
+        double probability = unseenCount == 0? 0: Math.min( 1.0, (double) a_total / unseenCount );
+
+        for(int id = 0; id < TileSet.NUM_TILES; id++)
+            m_handProbabilities[id] = TileSet.contains( m_unseen, id )? probability: 0;
+    }
+}
@@ -0,0 +1,214 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ Runs MonteCarloSearch on several threads for one decision. Each thread has its own
+ MonteCarloSearch, so the deals, the move buffers and the random numbers are never shared.
+
+   SEQUENTIAL     - one tree searched by the calling thread
+   ROOT_PARALLEL  - every thread builds its own tree. The visits of the root moves are added up
+                    over all the trees at the end
+   TREE_PARALLEL  - all threads search one shared tree, using virtual loss to spread out and the
+                    lock-free statistics of MctsNode
+
+ The search stops after a number of playouts, after a time budget, or after whichever comes first.
+
+ The threads come from a ForkJoinPool shared by every search with the same number of threads, so a
+ computer that is replaced, e.g. at the start of every round, leaves no threads behind.
+ */
+public class ParallelMonteCarloSearch {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final int SEQUENTIAL = 0;
+    public static final int ROOT_PARALLEL = 1;
+    public static final int TREE_PARALLEL = 2;
+
+    public static final int NO_PLAYOUT_LIMIT = 0;
+    public static final long NO_TIME_BUDGET = 0;
+
+    // The pools of the searches, by number of threads. Created when a parallel search first runs
+    private static final Map<Integer, ForkJoinPool> POOLS = new HashMap<>();
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private int m_mode;
+    private int m_threads;
+    private int m_playouts;          // Playouts per decision over all threads, or NO_PLAYOUT_LIMIT
+    private long m_timeBudgetNanos;  // Time per decision, or NO_TIME_BUDGET
+    private MonteCarloSearch [] m_workers;
+    private int [] m_rootVisits;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    ParallelMonteCarloSearch( int a_mode, int a_threads, int a_playouts, long a_timeBudgetNanos ){
+        if( a_playouts == NO_PLAYOUT_LIMIT && a_timeBudgetNanos == NO_TIME_BUDGET )
+            throw new IllegalArgumentException( "A search needs a playout limit or a time budget" );
+
+        m_mode = a_mode;
+        m_threads = a_mode == SEQUENTIAL? 1: Math.max( 1, a_threads );
+        m_playouts = a_playouts;
+        m_timeBudgetNanos = a_timeBudgetNanos;
+        m_rootVisits = new int[Move.NUM_MOVE_CODES];
+
+        SplittableRandom random = new SplittableRandom();
+        m_workers = new MonteCarloSearch[m_threads];
+        for(int i = 0; i < m_threads; i++)
+            m_workers[i] = new MonteCarloSearch( a_playouts, MonteCarloSearch.DEFAULT_EXPLORATION, random.split() );
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getMode() { return m_mode; }
+
+    public int getThreads() { return m_threads; }
+
+    public int getPlayouts() { return m_playouts; }
+
+    public long getTimeBudgetNanos() { return m_timeBudgetNanos; }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+
+    /**
+     Give every thread's search the probabilities of the unseen tiles being in the opponent's hand
+     @param a_probabilities as in MonteCarloSearch.setHandProbabilities, or null to deal uniformly
+     */
+    public void setHandProbabilities( double [] a_probabilities ){
+        for(MonteCarloSearch worker: m_workers)
+            worker.setHandProbabilities( a_probabilities );
+    }
+
+    /**/
+    /*
+    search
+
+    NAME
+
+        search - Choose a move for the player whose turn it is
+
+    SYNOPSIS
+
+        public int search( GameState a_observed )
+            a_observed - the round as it is. Only the parts the player to move can see are used
+
+    DESCRIPTION
+
+        Split the playouts evenly between the threads and run them in the search's mode. A player
+        with a single legal move gets it without a search
+
+    RETURNS
+
+        The chosen move, encoded as in Move. Move.NONE if there is nothing to search
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int search( final GameState a_observed ){
+        MctsNode sharedRoot = MonteCarloSearch.createRoot( a_observed );
+        if( sharedRoot == null )
+            return Move.NONE;
+
+        int [] moves = new int[MoveGenerator.MAX_MOVES];
+        if( a_observed.generateMoves( moves ) == 1 )
+            return moves[0];
+
+        final long deadline = m_timeBudgetNanos == NO_TIME_BUDGET? MonteCarloSearch.NO_DEADLINE: System.nanoTime() + m_timeBudgetNanos;
+        final int playoutsPerThread = m_playouts == NO_PLAYOUT_LIMIT? Integer.MAX_VALUE: (m_playouts + m_threads - 1) / m_threads;
+
+        if( m_mode == SEQUENTIAL ){
+            if( !m_workers[0].runPlayouts( a_observed, sharedRoot, playoutsPerThread, deadline, false ) )
+                return Move.NONE;
+            return MonteCarloSearch.getMostVisitedMove( sharedRoot );
+        }
+
+        final boolean shareTree = m_mode == TREE_PARALLEL;
+        List<Callable<MctsNode>> tasks = new ArrayList<>();
+
+        for(int i = 0; i < m_threads; i++){
+            final MonteCarloSearch worker = m_workers[i];
+            final MctsNode root = shareTree? sharedRoot: MonteCarloSearch.createRoot( a_observed );
+
+            tasks.add( new Callable<MctsNode>() {
+                @Override
+                public MctsNode call(){
+                    // The workers only read a_observed, so they can share it
+                    return worker.runPlayouts( a_observed, root, playoutsPerThread, deadline, shareTree )? root: null;
+                }
+            } );
+        }
+
+        List<MctsNode> roots = new ArrayList<>();
+        try{
+            for(Future<MctsNode> i: getPool().invokeAll( tasks )){
+                MctsNode root = i.get();
+                if( root == null )
+                    return Move.NONE;
+                roots.add( root );
+            }
+        }
+        catch( InterruptedException e ){
+            Thread.currentThread().interrupt();
+            return Move.NONE;
+        }
+        catch( ExecutionException e ){
+            throw new IllegalStateException( "A search thread failed", e.getCause() );
+        }
+
+        if( shareTree )
+            return MonteCarloSearch.getMostVisitedMove( sharedRoot );
+
+        return getMostVisitedMove( roots );
+    }
+
+    // Add up the visits of each root move over all the trees and return the move with the most
+    private int getMostVisitedMove( List<MctsNode> a_roots ){
+        Arrays.fill( m_rootVisits, 0 );
+
+        for(MctsNode root: a_roots){
+            for(MctsNode child = root.getFirstChild(); child != null; child = child.getNextSibling())
+                m_rootVisits[ child.getMove() ] += child.getVisits();
+        }
+
+        int best = Move.NONE;
+        for(int move = 0; move < Move.NUM_MOVE_CODES; move++){
+            if( m_rootVisits[move] > 0 && (best == Move.NONE || m_rootVisits[move] > m_rootVisits[best]) )
+                best = move;
+        }
+
+        return best;
+    }
+
+    private ForkJoinPool getPool(){
+        synchronized( POOLS ){
+            ForkJoinPool pool = POOLS.get( m_threads );
+            if( pool == null ){
+                pool = new ForkJoinPool( m_threads );
+                POOLS.put( m_threads, pool );
+            }
+
+            return pool;
+        }
+    }
+}
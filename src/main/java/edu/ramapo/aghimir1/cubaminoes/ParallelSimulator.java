@@ -0,0 +1,142 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelSimulator {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Largest range of tournaments one thread plays
+    private static final long TOURNAMENTS_PER_TASK = 64;
+    private static final long DEFAULT_TOURNAMENTS = 100000;
+    private static final int DEFAULT_TOURNAMENT_SCORE = 200;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private PlayerFactory m_leftFactory;
+    private PlayerFactory m_rightFactory;
+    private int m_tournamentMaxScore;
+    private long m_seed;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    ParallelSimulator( PlayerFactory a_leftFactory, PlayerFactory a_rightFactory, int a_tournamentMaxScore ){
+        this( a_leftFactory, a_rightFactory, a_tournamentMaxScore, new SplittableRandom().nextLong() );
+    }
+
+    // Every call of simulate with the same seed deals the same tournaments, on any number of threads.
+    // The results are the same too if the players don't depend on the clock, e.g. computers whose
+    // endgame solver has a node budget
+    ParallelSimulator( PlayerFactory a_leftFactory, PlayerFactory a_rightFactory, int a_tournamentMaxScore, long a_seed ){
+        m_leftFactory = a_leftFactory;
+        m_rightFactory = a_rightFactory;
+        m_tournamentMaxScore = a_tournamentMaxScore;
+        m_seed = a_seed;
+    }
+
+    /**/
+    /*
+    simulate
+
+    NAME
+
+        simulate - Play a number of independent tournaments on all the threads of a ForkJoinPool
+
+    SYNOPSIS
+
+        public SimulationStats simulate( long a_numTournaments, ForkJoinPool a_pool )
+            a_numTournaments - number of tournaments to play
+            a_pool - the pool whose threads play the tournaments
+
+    DESCRIPTION
+
+        A RangeTask splits the range of tournaments in half until a range has no more than
+        TOURNAMENTS_PER_TASK tournaments. Each such range is played by one thread with its own
+        players and its own Tournament objects, so the threads never share any game state. The
+        statistics of the ranges are merged as the tasks join.
+
+        Every task splits its random number generator in two when it splits its range, and every
+        tournament gets a generator split from its task's. The ranges only depend on the number of
+        tournaments, so each tournament is dealt from the same generator whichever thread plays
+        it, and no two threads ever draw from the same generator
+
+    RETURNS
+
+        The merged statistics of all the tournaments, including the wall clock time it took to
+        play them
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public SimulationStats simulate( long a_numTournaments, ForkJoinPool a_pool ){
+        long start = System.nanoTime();
+
+        RangeTask.Body<SimulationStats> body = new RangeTask.Body<SimulationStats>() {
+            @Override
+            public SimulationStats computeRange( long a_first, long a_last, SplittableRandom a_random ){
+                return playTournaments( a_first, a_last, a_random );
+            }
+
+            @Override
+            public void merge( SimulationStats a_result, SimulationStats a_other ){
+                a_result.merge( a_other );
+            }
+        };
+        SimulationStats stats = a_pool.invoke( new RangeTask<>( body, 0, a_numTournaments, TOURNAMENTS_PER_TASK,
+                new SplittableRandom(m_seed) ) );
+
+        stats.addElapsedNanos( System.nanoTime() - start );
+        return stats;
+    }
+
+    // Play the tournaments numbered from a_first (inclusive) to a_last (exclusive) on the calling
+    // thread, with players of their own
+    private SimulationStats playTournaments( long a_first, long a_last, SplittableRandom a_random ){
+        SimulationStats stats = new SimulationStats();
+        Player left = m_leftFactory.createPlayer( Player.LEFT );
+        Player right = m_rightFactory.createPlayer( Player.RIGHT );
+
+        for(long i = a_first; i < a_last; i++){
+            Tournament tournament = new Tournament( m_tournamentMaxScore, left, right, a_random.split() );
+            Simulator.playTournament( tournament, stats );
+        }
+
+        return stats;
+    }
+
+    // Usage: ParallelSimulator [number of tournaments] [tournament score] [number of threads] [seed]
+    public static void main( String [] args ){
+        long tournaments = args.length > 0? Long.parseLong( args[0] ): DEFAULT_TOURNAMENTS;
+        int tournamentScore = args.length > 1? Integer.parseInt( args[1] ): DEFAULT_TOURNAMENT_SCORE;
+        int threads = args.length > 2? Integer.parseInt( args[2] ): Runtime.getRuntime().availableProcessors();
+
+        PlayerFactory computerFactory = new PlayerFactory() {
+            @Override
+            public Player createPlayer( String a_side ){
+                Computer computer = new Computer( a_side );
+                computer.setEndgameNodeBudget( Simulator.ENDGAME_NODE_BUDGET );
+                return computer;
+            }
+        };
+
+        ParallelSimulator simulator = args.length > 3
+                ? new ParallelSimulator( computerFactory, computerFactory, tournamentScore, Long.parseLong(args[3]) )
+                : new ParallelSimulator( computerFactory, computerFactory, tournamentScore );
+        ForkJoinPool pool = new ForkJoinPool( threads );
+        SimulationStats stats = simulator.simulate( tournaments, pool );
+        pool.shutdown();
+
+        System.out.println( "Threads: " + threads );
+        System.out.print( stats );
+    }
+}
@@ -19,32 +19,41 @@ public abstract class Player implements Serializable {
     be able to use this as well
     ********************************************* */
     protected ArrayList<Tile> m_hand;
+    protected long m_handMask; // The tiles of m_hand as a TileSet. m_hand only keeps the order of the tiles
     protected boolean m_pass;
     protected int m_score;
     protected String m_side;
     protected UserInput m_input;
+    protected int m_tileDrawn; // Number of tiles the player has drawn from the stock in his current turn
 
     // Other member variable
     private String m_optimalSideToPlaceTileOn;
+    private boolean m_scanHand; // getOptimalTile scans the hand instead of using GreedyDecisionTable
 
     /* *********************************************
     Constructors
     ********************************************* */
     Player(){
         m_hand = new ArrayList<>();
+        m_handMask = TileSet.EMPTY;
         m_pass = false;
         m_score = 0;
         m_side = "";
         m_input = new UserInput();
+        m_tileDrawn = 0;
         resetOptimalSide();
     }
 
     Player(ArrayList<Tile> a_hand ){
         m_hand = (ArrayList) a_hand.clone();
+        m_handMask = TileSet.EMPTY;
+        for(Tile i: m_hand)
+            m_handMask = TileSet.add( m_handMask, TileSet.idOf(i) );
         m_score = 0;
         m_pass = false;
         m_side = "";
         m_input = new UserInput();
+        m_tileDrawn = 0;
         resetOptimalSide();
     }
 
@@ -59,6 +68,10 @@ public abstract class Player implements Serializable {
         return m_side;
     }
 
+    public int getSideIndex() {
+        return Player.LEFT.equals(m_side)? Side.LEFT_INDEX: Side.RIGHT_INDEX;
+    }
+
     public UserInput getInput(){
         return m_input;
     }
@@ -67,12 +80,40 @@ public abstract class Player implements Serializable {
         return m_pass;
     }
 
+    public int getTileDrawn(){
+        return m_tileDrawn;
+    }
+
     /**
      A selector that returns a collection of all the tiles that constitute a player's hand
      @return an ArrayList of all tiles in a player's hand
      */
     ArrayList <Tile> getHand() { return (ArrayList) m_hand.clone(); }
 
+    /**
+     A selector that returns the tiles in a player's hand without copying them
+     @return a TileSet of all tiles in a player's hand
+     */
+    public long getHandMask() { return m_handMask; }
+
+    public boolean isDecisionTableEnabled() { return !m_scanHand; }
+
+    public int getHandSize() { return m_hand.size(); }
+
+    public boolean isHandEmpty() { return m_hand.isEmpty(); }
+
+    /**
+     A selector that returns one tile of a player's hand without copying the hand
+     @param a_index index of the tile in the player's hand
+     @return the tile at a_index, or null if a_index is not a valid index
+     */
+    public Tile getHandTile( int a_index ){
+        if( a_index < 0 || a_index >= m_hand.size() )
+            return null;
+
+        return m_hand.get(a_index);
+    }
+
 
     /* *********************************************
     Mutators
@@ -89,16 +130,124 @@ public abstract class Player implements Serializable {
         this.m_score += score;
     }
 
+    // With the table off, getOptimalTile looks through the hand on every call, as it used to
+    public void setDecisionTableEnabled( boolean a_enabled ){
+        m_scanHand = !a_enabled;
+    }
+
     private void resetOptimalSide(){
         m_optimalSideToPlaceTileOn = "";
     }
 
+    /**
+     Clear everything a player accumulates during a round so that the same object can take part in
+     another round. The player's side is kept
+     */
+    public void resetForNewRound(){
+        m_hand.clear();
+        m_handMask = TileSet.EMPTY;
+        m_pass = false;
+        m_score = 0;
+        m_input = new UserInput();
+        resetTileDrawn();
+        resetOptimalSide();
+    }
+
+    /**/
+    /*
+    incrementTileDrawn
+
+    NAME
+
+        incrementTileDrawn - Increment the value of member variable, m_tileDrawn that represents
+        the number of tiles a player has drawn in his turn by 1
+
+    SYNOPSIS
+
+        public void incrementTileDrawn()
+
+    DESCRIPTION
+
+        Increment the value of member variable, m_tileDrawn by 1. The count is kept by the player
+        rather than by UserInput, since the activity replaces the player's UserInput on every move
+        and since every game needs its own count
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        5/3/2019
+
+    */
+    public void incrementTileDrawn(){
+        m_tileDrawn++;
+    }
+
+    /**/
+    /*
+    resetTileDrawn
+
+    NAME
+
+        resetTileDrawn - Re-initialize the value of member variable, m_tileDrawn that represents
+        the number of tiles a player has drawn in his turn
+
+    SYNOPSIS
+
+        public void resetTileDrawn()
+
+    DESCRIPTION
+
+        Set the value of member variable, m_tileDrawn to 0
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        5/3/2019
+
+    */
+    public void resetTileDrawn(){
+        m_tileDrawn = 0;
+    }
+
 
     /* *********************************************
     Abstract classes. Look at the derived classes for more description about the implementation of
     these classes
     ********************************************* */
 
+    /**
+     Called by Round.makeMove before the player chooses a move. Players that plan their moves by
+     looking at the whole round read it here. The default does nothing
+     @param a_round the round the player is about to move in
+     */
+    public void prepareMove( Round a_round ){
+    }
+
+    /**
+     Called by Round after every valid move of either player, the way a MoveListener is. Players
+     that learn from the moves they see keep track of them here. The default does nothing
+     @param a_round the round, as it is after the move
+     @param a_player Side.LEFT_INDEX for the round's human player, Side.RIGHT_INDEX for its computer
+     player
+     @param a_move the move, encoded as in Move
+     */
+    public void moveMade( Round a_round, int a_player, int a_move ){
+    }
+
     /**/
     /*
     getMoveOption
@@ -294,7 +443,7 @@ public abstract class Player implements Serializable {
 
         The numeric value of a tie is the sum of the value of its stones. For instance, the tile,
         3-6 would have a numeric value of 9. So, a hand with tiles, 3-5 4-6 and 2-3 would be
-        8 + 10 + 5 = 23
+        8 + 10 + 5 = 23. The sum is computed from the hand's TileSet
 
     RETURNS
 
@@ -310,12 +459,7 @@ public abstract class Player implements Serializable {
 
     */
     public int getHandValue(){
-        int sum = 0;
-
-        for(Tile i: m_hand )
-            sum += i.getNumericValue();
-
-        return sum;
+        return TileSet.getTotalValue( m_handMask );
     }
 
     /**/
@@ -349,8 +493,10 @@ public abstract class Player implements Serializable {
 
     */
     public void addToHand(Tile a_tile){
-        if( a_tile != null)
+        if( a_tile != null) {
             m_hand.add( a_tile );
+            m_handMask = TileSet.add( m_handMask, TileSet.idOf(a_tile) );
+        }
     }
 
 
@@ -386,8 +532,8 @@ public abstract class Player implements Serializable {
 
     */
     public void removeFromHand(Tile a_tile){
-        if(a_tile != null)
-            m_hand.remove(a_tile);
+        if(a_tile != null && m_hand.remove(a_tile) )
+            m_handMask = TileSet.remove( m_handMask, TileSet.idOf(a_tile) );
     }
 
 
@@ -406,7 +552,8 @@ public abstract class Player implements Serializable {
 
     DESCRIPTION
 
-        A player has a certain tile if the a_tile equals one of the tiles already in the player's hand
+        A player has a certain tile if the a_tile loosely equals one of the tiles already in the
+        player's hand. This is a single lookup in the hand's TileSet
 
     RETURNS
 
@@ -422,12 +569,7 @@ public abstract class Player implements Serializable {
 
     */
     public boolean hasTile( Tile a_tile ){
-        for(Tile t: m_hand){
-            if( t.equals(a_tile) )
-                return true;
-        }
-
-        return false;
+        return a_tile != null && TileSet.contains( m_handMask, TileSet.idOf(a_tile) );
     }
 
 
@@ -460,6 +602,8 @@ public abstract class Player implements Serializable {
             c) IF the opponent has not passed and the player does not have a duble tile in his hand,
             he can place a tile only on his side if the tile's stone value equals to the value of the
             open stone on the respective side.
+        Each situation is checked with a mask of the tiles that have a given stone instead of a loop
+        over the hand.
 
     RETURNS
 
@@ -475,33 +619,22 @@ public abstract class Player implements Serializable {
 
     */
     protected boolean canPlaceTiles( Table a_table, String a_playersSide, boolean a_opponentHasPassed ){
-        Side leftSide = a_table.getLeftSide();
-        Side rightSide = a_table.getRightSide();
+        long leftMatches = TileSet.pipMask( a_table.getLeftSide().getOpenStone() );
+        long rightMatches = TileSet.pipMask( a_table.getRightSide().getOpenStone() );
 
-        for(Tile i: m_hand){
-            if( i.isDoubleTile() ){
-                if( i.getLeftStone() == leftSide.getOpenStone() || i.getLeftStone() == rightSide.getOpenStone() )
-                    return true;
-            }
-            else if( a_opponentHasPassed ){
-                // If the other player just passed on her/his turn, the player may place a non-double on either side.
-                boolean checkLeftSide = leftSide.getOpenStone() == i.getLeftStone() || leftSide.getOpenStone() == i.getRightStone();
-                boolean checkRightSide = rightSide.getOpenStone() == i.getLeftStone() || rightSide.getOpenStone() == i.getRightStone();
+        // A double can go on either side
+        if( (m_handMask & TileSet.doublesMask() & (leftMatches | rightMatches)) != 0 )
+            return true;
 
-                if( checkLeftSide || checkRightSide )
-                    return true;
-            }
-            else{ //Not a double tile. Can put such tile only on the "player's side"
-                if( a_playersSide.equals(Player.RIGHT) ){
-                    if( rightSide.getOpenStone() == i.getLeftStone() || rightSide.getOpenStone() == i.getRightStone() )
-                        return true;
-                }
-                else if( a_playersSide.equals(Player.LEFT) ){
-                    if(leftSide.getOpenStone() == i.getLeftStone() || leftSide.getOpenStone() == i.getRightStone() )
-                        return true;
-                }
-            }
-        }
+        // If the other player just passed on her/his turn, the player may place a non-double on either side.
+        if( a_opponentHasPassed )
+            return (m_handMask & (leftMatches | rightMatches)) != 0;
+
+        //Not a double tile. Can put such tile only on the "player's side"
+        if( a_playersSide.equals(Player.RIGHT) )
+            return (m_handMask & rightMatches) != 0;
+        else if( a_playersSide.equals(Player.LEFT) )
+            return (m_handMask & leftMatches) != 0;
 
         return false;
     }
@@ -543,6 +676,9 @@ public abstract class Player implements Serializable {
     protected Tile getOneDoubleTile( int a_numericValue ){
         Tile res = null;
 
+        if( !TileSet.hasDouble( m_handMask, a_numericValue ) )
+            return res;
+
         for(Tile i: m_hand){
             if( i.isDoubleTile() && i.getRightStone() == a_numericValue )
                 return i;
@@ -590,14 +726,30 @@ public abstract class Player implements Serializable {
     protected int getIndexOfTile( Tile a_tile ){
         int tileIndex = Tile.UNDEFINED_STONE;
 
-        for(Tile i: m_hand){
-            if( i.looseEquals(a_tile) )
-                return m_hand.indexOf(i);
+        for(int i = 0; i < m_hand.size(); i++){
+            if( m_hand.get(i).looseEquals(a_tile) )
+                return i;
         }
 
         return tileIndex;
     }
 
+    /**
+     Get the index (in m_hand) of the tile with a given TileSet id, in either orientation
+     @return the index of the tile, or Tile.UNDEFINED_STONE if the tile isn't in the hand
+     */
+    protected int getIndexOfTileId( int a_tileId ){
+        if( !TileSet.contains( m_handMask, a_tileId ) )
+            return Tile.UNDEFINED_STONE;
+
+        for(int i = 0; i < m_hand.size(); i++){
+            if( m_hand.get(i).getId() == a_tileId )
+                return i;
+        }
+
+        return Tile.UNDEFINED_STONE;
+    }
+
 
     /**/
     /*
@@ -636,17 +788,18 @@ public abstract class Player implements Serializable {
 
     */
     protected int getHighestNumericValuedTile( ArrayList<Tile> a_list ){
-        int res = Tile.UNDEFINED_STONE;
+        Tile highest = null;
         int highestVal = Integer.MIN_VALUE;
 
         for( Tile i: a_list ){
             if( i.getNumericValue() > highestVal ){
                 highestVal = i.getNumericValue();
-                res = getIndexOfTile(i);
+                highest = i;
             }
         }
 
-        return res;
+        // Look the tile up in the hand only once, not every time a higher one is found
+        return highest == null? Tile.UNDEFINED_STONE: getIndexOfTile(highest);
     }
 
 
@@ -692,7 +845,7 @@ public abstract class Player implements Serializable {
         if( canPlaceTiles( a_table, a_playersSide, a_opponentPassed ) )
             return UserInput.PLACE_TILE;
 
-        if( m_input.getTileDrawn() == 0 && !a_stockEmpty)
+        if( m_tileDrawn == 0 && !a_stockEmpty)
             return UserInput.DRAW_TILE;
 
         return UserInput.PASS;
@@ -735,6 +888,9 @@ public abstract class Player implements Serializable {
         numeric value since at the end of the game, if you tiles with higher numeric values remaining
         in yur hand, your opponent will get a higher score
 
+        The choice only depends on the hand, the open stones, the side and the opponent's pass, so it
+        is looked up in the shared GreedyDecisionTable unless setDecisionTableEnabled turned it off
+
 
     RETURNS
 
@@ -756,6 +912,18 @@ public abstract class Player implements Serializable {
         String ownSide = a_currentPlayersSide;     // for human, it is player.left, for computer, Player.RIGHT
         String opponentsSide = a_currentPlayersSide.equalsIgnoreCase(Player.LEFT)? Player.RIGHT: Player.LEFT;
 
+        // The table gives the same tile and side as the scan below whenever the player can place one
+        if( !m_scanHand ){
+            int placement = GreedyDecisionTable.getShared().getPlacement( m_handMask,
+                    ownSide.equalsIgnoreCase(Player.LEFT)? Side.LEFT_INDEX: Side.RIGHT_INDEX,
+                    a_table.getLeftSide().getOpenStone(), a_table.getRightSide().getOpenStone(), a_opponentHasPassed );
+
+            if( placement != Move.NONE ){
+                m_optimalSideToPlaceTileOn = Move.getSideString( placement );
+                return getIndexOfTileId( Move.getTileId(placement) );
+            }
+        }
+
         // Look if you can place a double tile on the opponent's side first
         Tile doubleTile = getOneDoubleTile( openStoneOpponentsSide );
         if( doubleTile != null){
@@ -818,17 +986,15 @@ public abstract class Player implements Serializable {
     */
     private ArrayList<Tile> findCandidateTile(int a_openEnd, String a_side ){
         ArrayList<Tile> candidates = new ArrayList<>();
-        ArrayList<Tile> handCopy = getHand();
 
-        for(Tile i: handCopy){
+        for(Tile i: m_hand){
 
             if( a_side.equals(Player.RIGHT) ){
                 if( i.getLeftStone() == a_openEnd ){
                     candidates.add(i);
                 }
                 else if( i.getRightStone() == a_openEnd ){
-                    Tile flipped = new Tile( i.getRightStone(), i.getLeftStone() );
-                    candidates.add(flipped);
+                    candidates.add(i.flipped());
                 }
             }
             else if( a_side.equals(Player.LEFT) ){
@@ -836,8 +1002,7 @@ public abstract class Player implements Serializable {
                     candidates.add(i);
                 }
                 else if( i.getLeftStone() == a_openEnd ){
-                    Tile flipped = new Tile(i.getRightStone(), i.getLeftStone());
-                    candidates.add(flipped);
+                    candidates.add(i.flipped());
                 }
             }
         }
@@ -0,0 +1,15 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ Creates the players of headless games. Every thread of a parallel simulation asks the factory for
+ its own players, since a Player keeps the state of the round it is playing
+ */
+public interface PlayerFactory {
+
+    /**
+     Create a new player
+     @param a_side Player.LEFT or Player.RIGHT, the side of the table the player plays on
+     @return a new Player object that isn't shared with any other game
+     */
+    Player createPlayer( String a_side );
+}
@@ -0,0 +1,100 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ What a player sees when it is her/his turn: her/his own hand, the table and the opponent's last
+ move, but not the opponent's hand or the order of the stock. A Position never changes once it is
+ created, so a Strategy can read it from any thread.
+ */
+public final class Position {
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final long m_hand;            // TileSet of the player to move
+    private final long m_placedMask;      // TileSet of the tiles on the table
+    private final int m_leftStone;
+    private final int m_rightStone;
+    private final int m_side;             // Side.LEFT_INDEX or Side.RIGHT_INDEX of the player to move
+    private final boolean m_opponentPassed;
+    private final int m_tileDrawn;        // Tiles drawn by the player to move in this turn
+    private final boolean m_stockEmpty;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public Position( long a_hand, long a_placedMask, int a_leftStone, int a_rightStone, int a_side,
+                     boolean a_opponentPassed, int a_tileDrawn, boolean a_stockEmpty ){
+        m_hand = a_hand;
+        m_placedMask = a_placedMask;
+        m_leftStone = a_leftStone;
+        m_rightStone = a_rightStone;
+        m_side = a_side;
+        m_opponentPassed = a_opponentPassed;
+        m_tileDrawn = a_tileDrawn;
+        m_stockEmpty = a_stockEmpty;
+    }
+
+    /**
+     The position of a player in a round that is being played
+     @param a_player the player to move
+     @param a_table the table of the round
+     @param a_opponentPassed true if the opponent passed in her/his previous turn
+     @param a_stockEmpty true if the stock of the round is empty
+     */
+    public Position( Player a_player, Table a_table, boolean a_opponentPassed, boolean a_stockEmpty ){
+        this( a_player.getHandMask(), a_table.getPlacedMask(), a_table.getLeftSide().getOpenStone(),
+                a_table.getRightSide().getOpenStone(), a_player.getSideIndex(), a_opponentPassed,
+                a_player.getTileDrawn(), a_stockEmpty );
+    }
+
+    /**
+     The position of the player to move in a GameState. Only the parts of the state that player
+     can see are copied
+     @param a_state the state to copy
+     */
+    public Position( GameState a_state ){
+        this( a_state.getHand( a_state.getTurn() ), a_state.getPlacedMask(), a_state.getOpenStone( Side.LEFT_INDEX ),
+                a_state.getOpenStone( Side.RIGHT_INDEX ), a_state.getTurn(), a_state.hasPassed( 1 - a_state.getTurn() ),
+                a_state.getTileDrawn(), a_state.isStockEmpty() );
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public long getHand() { return m_hand; }
+
+    public long getPlacedMask() { return m_placedMask; }
+
+    public int getSide() { return m_side; }
+
+    public int getOpponentSide() { return 1 - m_side; }
+
+    public boolean hasOpponentPassed() { return m_opponentPassed; }
+
+    public int getTileDrawn() { return m_tileDrawn; }
+
+    public boolean isStockEmpty() { return m_stockEmpty; }
+
+    /**
+     @param a_side Side.LEFT_INDEX or Side.RIGHT_INDEX
+     @return the open stone of that side of the table
+     */
+    public int getOpenStone( int a_side ){
+        return a_side == Side.LEFT_INDEX? m_leftStone: m_rightStone;
+    }
+
+    /**
+     @return the tiles that are neither in the player's hand nor on the table, i.e. the opponent's
+     hand and the stock
+     */
+    public long getUnseenMask(){
+        return TileSet.ALL & ~m_hand & ~m_placedMask;
+    }
+
+    /**
+     @return true if the player may draw a tile instead of placing or passing
+     */
+    public boolean canDraw(){
+        return m_tileDrawn == 0 && !m_stockEmpty;
+    }
+}
@@ -0,0 +1,75 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ A task that works on the items numbered from m_first (inclusive) to m_last (exclusive) on the
+ threads of a ForkJoinPool. The range is split in half until a range has no more than a given
+ number of items, and each such range is handed to the task's Body on one thread. The results of
+ the ranges are merged as the tasks join.
+
+ A task can carry a random number generator, which is split in two along with the range. The ranges
+ only depend on the number of items, so each range gets the same generator whichever thread works
+ on it, and no two threads ever draw from the same generator.
+ */
+final class RangeTask<T> extends RecursiveTask<T> {
+
+    /**
+     The work a RangeTask does on each of its ranges
+     */
+    interface Body<T> {
+
+        /**
+         Work on a range of items on the calling thread
+         @param a_first the first item of the range
+         @param a_last the item after the last one of the range
+         @param a_random the generator of the range, or null if the task has none
+         @return the result of the range
+         */
+        T computeRange( long a_first, long a_last, SplittableRandom a_random );
+
+        /**
+         Add the result of another range to a result
+         @param a_result the result to add to
+         @param a_other the result of the other range
+         */
+        void merge( T a_result, T a_other );
+    }
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final Body<T> m_body;
+    private final long m_first;
+    private final long m_last;
+    private final long m_itemsPerTask;  // Items a task works on itself instead of splitting its range further
+    private final SplittableRandom m_random;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    RangeTask( Body<T> a_body, long a_first, long a_last, long a_itemsPerTask, SplittableRandom a_random ){
+        m_body = a_body;
+        m_first = a_first;
+        m_last = a_last;
+        m_itemsPerTask = a_itemsPerTask;
+        m_random = a_random;
+    }
+
+    @Override
+    protected T compute(){
+        if( m_last - m_first <= m_itemsPerTask )
+            return m_body.computeRange( m_first, m_last, m_random );
+
+        long middle = m_first + (m_last - m_first) / 2;
+        RangeTask<T> firstHalf = new RangeTask<>( m_body, m_first, middle, m_itemsPerTask,
+                m_random == null? null: m_random.split() );
+        RangeTask<T> secondHalf = new RangeTask<>( m_body, middle, m_last, m_itemsPerTask, m_random );
+
+        firstHalf.fork();
+        T result = secondHalf.compute();
+        m_body.merge( result, firstHalf.join() );
+        return result;
+    }
+}
@@ -1,25 +1,23 @@
 package edu.ramapo.aghimir1.cubaminoes;
 
-import android.os.Environment;
-
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.text.Normalizer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Formatter;
+import java.util.SplittableRandom;
 
 import static edu.ramapo.aghimir1.cubaminoes.Player.PLACE_TILE;
 
 public class Round implements Serializable {
 
-
-    private static int m_roundCount = 0;
-
     /* *********************************************
     Class member variables
     ********************************************* */
+    private int m_roundCount;
     private Tile m_engine;
     private Player m_humanPlayer;
     private Player m_computerPlayer;
@@ -33,24 +31,37 @@ public class Round implements Serializable {
     private int m_humanTournamentScore;
     private int m_computerTournamentScore;
     private String m_moveSummary;
+    private int m_lastMove; // The last valid move, encoded as in Move
+    private transient MoveListener m_moveListener;
 
 
     /* *********************************************
     Constructors
     ********************************************* */
-    Round( int a_humanTournamentScore, int a_computerTournamentScore ){
-        m_roundCount++;
+    Round( int a_roundCount, int a_humanTournamentScore, int a_computerTournamentScore ){
+        this( a_roundCount, a_humanTournamentScore, a_computerTournamentScore, new Human(), new Computer() );
+    }
+
+    Round( int a_roundCount, int a_humanTournamentScore, int a_computerTournamentScore, Player a_leftPlayer, Player a_rightPlayer ){
+        this( a_roundCount, a_humanTournamentScore, a_computerTournamentScore, a_leftPlayer, a_rightPlayer, new SplittableRandom() );
+    }
+
+    // a_random shuffles the stock, so a seeded generator gives a round that can be played again
+    Round( int a_roundCount, int a_humanTournamentScore, int a_computerTournamentScore, Player a_leftPlayer, Player a_rightPlayer,
+           SplittableRandom a_random ){
+        m_roundCount = a_roundCount;
         int engine = computeEngine();
-        m_engine = new Tile(engine, engine);
-        m_humanPlayer = new Human();
-        m_computerPlayer = new Computer();
-        m_stock = new Stock();
+        m_engine = Tile.valueOf(engine, engine);
+        m_humanPlayer = a_leftPlayer;
+        m_computerPlayer = a_rightPlayer;
+        m_stock = new Stock( a_random );
         m_table = new Table();
         m_winner = null;
         m_needsInitialSetUp = true;
         m_humanTournamentScore = a_humanTournamentScore;
         m_computerTournamentScore = a_computerTournamentScore;
         m_moveSummary = "";
+        m_lastMove = Move.NONE;
     }
 
     Round( int a_roundCount, Tile a_engine, Human a_human, Computer a_computer, Stock a_stock, Table a_table, String a_nextPlayer, int a_humanTournamentScore, int a_computerTournamentScore ){
@@ -66,7 +77,7 @@ public class Round implements Serializable {
         }
         else{
             int engine = computeEngine();
-            m_engine = new Tile( engine, engine );
+            m_engine = Tile.valueOf( engine, engine );
             m_needsInitialSetUp = true;
         }
 
@@ -75,6 +86,7 @@ public class Round implements Serializable {
         m_humanTournamentScore = a_humanTournamentScore;
         m_computerTournamentScore = a_computerTournamentScore;
         m_moveSummary = "";
+        m_lastMove = Move.NONE;
     }
 
     /* *********************************************
@@ -85,6 +97,10 @@ public class Round implements Serializable {
         return m_winner;
     }
 
+    public int getRoundCount(){
+        return m_roundCount;
+    }
+
     public Tile getEngine() { return  m_engine; }
 
     public boolean needsInitialSetUp(){
@@ -119,6 +135,27 @@ public class Round implements Serializable {
         return m_winnerString;
     }
 
+    /**
+     Selector for the last valid move of the round
+     @return the move encoded as in Move, or Move.NONE if no move has been made since the round
+     was created or loaded
+     */
+    public int getLastMove(){
+        return m_lastMove;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+
+    /**
+     Set the listener told about every valid move. The listener is not saved with the round
+     @param a_listener the listener, or null to stop telling
+     */
+    public void setMoveListener( MoveListener a_listener ){
+        m_moveListener = a_listener;
+    }
+
     /**/
     /*
     computeEngine
@@ -268,6 +305,7 @@ public class Round implements Serializable {
         if( whoHasEngine != null){
             // The player who has the engine should place the engine on the table
             whoHasEngine.removeFromHand(m_engine);
+            m_table.setEngine( m_engine );
             m_table.setLeftSideValue( m_engine.getLeftStone() );
             m_table.setRightSideValue( m_engine.getRightStone() );
             m_turn = !m_turn;
@@ -502,11 +540,65 @@ public class Round implements Serializable {
 
         Player opponentPlayer = getOpponentPlayer(a_player);
 
+        a_player.prepareMove( this );
         int move = a_player.getMoveOption( m_table, a_player.getSide(), opponentPlayer.hasPassed(), m_stock.isEmpty() );
 
         return verifyMove( move, a_player);
     }
 
+    /**/
+    /*
+    getGameState
+
+    NAME
+
+        getGameState - Copy the state of the round into a GameState
+
+    SYNOPSIS
+
+        public GameState getGameState()
+
+    DESCRIPTION
+
+        Copy both hands, the open stones, the pass flags, the player to move and the stock in draw
+        order. The human player is at Side.LEFT_INDEX and the computer player at Side.RIGHT_INDEX.
+        The GameState holds every tile of the round, so a player who searches it has to hide the
+        opponent's hand and the stock from himself
+
+    RETURNS
+
+        A new GameState
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public GameState getGameState(){
+        GameState state = new GameState();
+        Player whoIsPlaying = getWhoIsPlaying();
+
+        state.setHand( Side.LEFT_INDEX, m_humanPlayer.getHandMask() );
+        state.setHand( Side.RIGHT_INDEX, m_computerPlayer.getHandMask() );
+        state.setOpenStone( Side.LEFT_INDEX, m_table.getLeftSide().getOpenStone() );
+        state.setOpenStone( Side.RIGHT_INDEX, m_table.getRightSide().getOpenStone() );
+        state.setPassed( Side.LEFT_INDEX, m_humanPlayer.hasPassed() );
+        state.setPassed( Side.RIGHT_INDEX, m_computerPlayer.hasPassed() );
+        state.setTurn( whoIsPlaying == m_humanPlayer? Side.LEFT_INDEX: Side.RIGHT_INDEX, whoIsPlaying.getTileDrawn() );
+
+        Tile engine = m_table.getEngine();
+        state.setTable( engine == null? TileSet.INVALID_ID: engine.getId(), m_table.getPlacedMask() );
+
+        int [] stockIds = new int[TileSet.NUM_TILES];
+        state.setStock( stockIds, 0, m_stock.getTileIds( stockIds ) );
+
+        return state;
+    }
+
     /**/
     /*
     verifyMove( int a_move, Player a_player )
@@ -565,7 +657,80 @@ public class Round implements Serializable {
             m_turn = !m_turn;
         }
 
-        return validTilePlacement || validPass || validTileDrawn;
+        if( !(validTilePlacement || validPass || validTileDrawn) )
+            return false;
+
+        notifyMoveListener( a_player );
+        return true;
+    }
+
+    /**/
+    /*
+    applyMove( int a_move )
+
+    NAME
+
+        applyMove( int a_move ) - to make a move for the player whose turn it is, without asking him
+
+    SYNOPSIS
+
+        public boolean applyMove( int a_move )
+            a_move - the move encoded as in Move, e.g. read back from a MoveJournal
+
+    DESCRIPTION
+
+        Checks and makes the move with the same rules as makeMove: a tile is placed only from the
+        player's hand on a side he may use, and a player draws or passes only when he can't place
+        a tile. A placed tile is laid the way the table's open stone requires, so the orientation
+        stored in the move is not needed
+
+    RETURNS
+
+        true if the move was valid and made. false otherwise
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public boolean applyMove( int a_move ){
+        Player player = getWhoIsPlaying();
+        m_moveSummary = "";
+
+        if( Move.isPass(a_move) )
+            return verifyMove( UserInput.PASS, player );
+
+        if( Move.isDraw(a_move) )
+            return verifyMove( UserInput.DRAW_TILE, player );
+
+        if( !Move.isPlacement(a_move) )
+            return false;
+
+        int tileIndex = player.getIndexOfTileId( Move.getTileId(a_move) );
+        if( tileIndex < 0 )
+            return false;
+
+        m_moveSummary += "The " + player.getPlayerString() + " chose to ";
+        if( !placeTile( player, player.getHandTile(tileIndex), Move.getSideString(a_move) ) )
+            return false;
+
+        m_turn = !m_turn;
+        notifyMoveListener( player );
+        return true;
+    }
+
+    // Both players are told as well as the listener, so the listener stays free for recorders
+    private void notifyMoveListener( Player a_player ){
+        int player = a_player == m_humanPlayer? Side.LEFT_INDEX: Side.RIGHT_INDEX;
+
+        m_humanPlayer.moveMade( this, player, m_lastMove );
+        m_computerPlayer.moveMade( this, player, m_lastMove );
+        if( m_moveListener != null )
+            m_moveListener.moveMade( this, player, m_lastMove );
     }
 
     /**/
@@ -605,28 +770,36 @@ public class Round implements Serializable {
         boolean opponentPassed = getOpponentPlayer(a_player).hasPassed();
         int tileIndex = a_player.selectTile(m_table, opponentPassed );
 
-        ArrayList<Tile> hand = a_player.getHand();
+        Tile chosenTile = a_player.getHandTile(tileIndex);
 
-        if( tileIndex < 0 ||  tileIndex > hand.size() )
+        if( chosenTile == null )
             return false;
 
-        Tile chosenTile = hand.get(tileIndex);
-        m_moveSummary += "place the tile, " + chosenTile.toString();
-
         String side = a_player.selectSide( m_table, a_player.getSide(), chosenTile, opponentPassed );
 
-        if( !verifySide(side, chosenTile, a_player) )
+        return placeTile( a_player, chosenTile, side );
+    }
+
+    // Place a tile of the player's hand on a side of the table, if the player may
+    private boolean placeTile( Player a_player, Tile a_tile, String a_side ){
+        m_moveSummary += "place the tile, " + a_tile.toString();
+
+        if( !verifySide(a_side, a_tile, a_player) )
             return false;
 
-        m_moveSummary += " on the " + side + " side";
+        m_moveSummary += " on the " + a_side + " side";
+
+        int sideIndex = a_side.equals(Player.LEFT)? Side.LEFT_INDEX: Side.RIGHT_INDEX;
+        int openStone = sideIndex == Side.LEFT_INDEX? m_table.getLeftSide().getOpenStone(): m_table.getRightSide().getOpenStone();
 
-        boolean validPlacement = m_table.addToSide( chosenTile, side );
+        boolean validPlacement = m_table.addToSide( a_tile, a_side );
 
         if( validPlacement ) {
             a_player.setPass(false);
             // We need to remove the tile's reference from the player's hand
-            a_player.removeFromHand(chosenTile);
-            a_player.getInput().resetTileDrawn();
+            a_player.removeFromHand(a_tile);
+            a_player.resetTileDrawn();
+            m_lastMove = Move.placement( a_tile.getId(), sideIndex, openStone );
         }
 
         return validPlacement;
@@ -714,15 +887,14 @@ public class Round implements Serializable {
         Player opponentPlayer = getOpponentPlayer(a_player);
 
         if( a_player.canPlaceTiles( m_table, a_player.getSide(), opponentPlayer.hasPassed() ) ){
-            System.out.println("You can't pass because you still have valid move you can make");
+            // You can't pass because you still have valid move you can make
             return false;
         }
 
         // The player must pass
         a_player.setPass(true);
-
-        UserInput usrInput = a_player.getInput();
-        usrInput.resetTileDrawn();
+        a_player.resetTileDrawn();
+        m_lastMove = Move.PASS;
 
         return true;
     }
@@ -772,9 +944,8 @@ public class Round implements Serializable {
 
         Tile tile = m_stock.getNextTile();
         a_player.addToHand( tile );
-
-        UserInput usrInput = a_player.getInput();
-        usrInput.incrementTileDrawn();
+        a_player.incrementTileDrawn();
+        m_lastMove = Move.DRAW;
 
         return true;
     }
@@ -812,10 +983,7 @@ public class Round implements Serializable {
 
     */
     private boolean roundOver(){
-        ArrayList<Tile> humanHand = m_humanPlayer.getHand();
-        ArrayList<Tile> computerHand = m_computerPlayer.getHand();
-
-        if( humanHand.isEmpty() || computerHand.isEmpty() )
+        if( m_humanPlayer.isHandEmpty() || m_computerPlayer.isHandEmpty() )
             return true;
 
         if( m_stock.isEmpty() ){ // If the stock is empty and both the players pass
@@ -864,13 +1032,10 @@ public class Round implements Serializable {
         if( !roundOver() )
             return false;
 
-        ArrayList<Tile> humanHand = m_humanPlayer.getHand();
         int humanHandValue = m_humanPlayer.getHandValue();
-
-        ArrayList<Tile> computerHand = m_computerPlayer.getHand();
         int computerHandValue = m_computerPlayer.getHandValue();
 
-        endRoundHandEmpty(humanHand, computerHand, humanHandValue, computerHandValue);
+        endRoundHandEmpty(m_humanPlayer.isHandEmpty(), m_computerPlayer.isHandEmpty(), humanHandValue, computerHandValue);
         endRoundBothPlayersPass( humanHandValue, computerHandValue );
         setWinnerString();
         return true;
@@ -886,7 +1051,7 @@ public class Round implements Serializable {
 
     SYNOPSIS
 
-        private void endRoundHandEmpty( ArrayList<Tile> humanHand, ArrayList<Tile> computerHand, int humanHandValue, int computerHandValue )
+        private void endRoundHandEmpty( boolean a_humanHandEmpty, boolean a_computerHandEmpty, int humanHandValue, int computerHandValue )
 
     DESCRIPTION
 
@@ -910,15 +1075,13 @@ public class Round implements Serializable {
         5/14/2019
 
     */
-    private void endRoundHandEmpty( ArrayList<Tile> humanHand, ArrayList<Tile> computerHand, int humanHandValue, int computerHandValue ){
+    private void endRoundHandEmpty( boolean a_humanHandEmpty, boolean a_computerHandEmpty, int humanHandValue, int computerHandValue ){
         // If one player empties his/her hand, the player wins. The player gets points equal to the total stones on all the tiles still in the opponent's hand.
-        if( humanHand.isEmpty() ){
-            System.out.println("Human player's hand is empty. Human won");
+        if( a_humanHandEmpty ){
             m_winner = m_humanPlayer;
             m_humanPlayer.updateScore( computerHandValue );
         }
-        else if( computerHand.isEmpty() ){
-            System.out.println("Computer player's hand is empty. Computer won");
+        else if( a_computerHandEmpty ){
             m_winner = m_computerPlayer;
             m_computerPlayer.updateScore( humanHandValue );
         }
@@ -1016,18 +1179,21 @@ public class Round implements Serializable {
 
     /**/
     /*
-    saveGame( int a_tournamentScore )
+    saveGame( int a_tournamentScore, String a_fileName )
 
     NAME
 
-        saveGame( int a_tournamentScore )- to save the key statistics of the tournament in a text file
+        saveGame( int a_tournamentScore, String a_fileName )- to save the key statistics of the tournament
+        in a text file
 
     SYNOPSIS
 
-        public void saveGame( int a_tournamentScore )
+        public void saveGame( int a_tournamentScore, String a_fileName )
             a_tournamentScore - a parameter that represents the maximum score a player can achieve in
             a tournament. IF any player gets score more than or equal to a_tournamentScore, he wins the
             tournament
+            a_fileName - absolute path of the text file to write. The activity decides where the file
+            lives so that this class does not depend on the Android framework
 
     DESCRIPTION
 
@@ -1047,21 +1213,11 @@ public class Round implements Serializable {
         5/26/2019
 
     */
-    public void saveGame( int a_tournamentScore ){
-        String fileName = "savedGame.txt";
-        fileName = Environment.getExternalStorageDirectory().getAbsolutePath() + "/" + fileName;
-
+    public void saveGame( int a_tournamentScore, String a_fileName ){
         try{
-            Formatter formatter = new Formatter( fileName );
-
-            formatter.format("%s %s %d%s", "Tournament", "Score:", a_tournamentScore, "\n" );
-            formatter.format("%s %s %d%s", "Round", "No:", m_roundCount, "\n");
-            savePlayerInfo( m_computerPlayer, formatter, m_computerTournamentScore );
-            savePlayerInfo( m_humanPlayer, formatter, m_humanTournamentScore );
-            saveEngineInfo( formatter );
-            saveTable( formatter );
-            saveStock( formatter );
-            saveOtherInfo( formatter );
+            Formatter formatter = new Formatter( a_fileName );
+
+            writeSaveText( a_tournamentScore, formatter );
             formatter.close();
 
         } catch (Exception e){
@@ -1069,6 +1225,30 @@ public class Round implements Serializable {
         }
     }
 
+    /**
+     Get the text saveGame writes, without writing it anywhere. The text no longer depends on the
+     round once it is returned, so another thread can write it to a file
+     @param a_tournamentScore the maximum score of the tournament
+     @return the round in the text save format
+     */
+    public String getSaveText( int a_tournamentScore ){
+        Formatter formatter = new Formatter( new StringBuilder() );
+
+        writeSaveText( a_tournamentScore, formatter );
+        return formatter.toString();
+    }
+
+    private void writeSaveText( int a_tournamentScore, Formatter a_formatter ){
+        a_formatter.format("%s %s %d%s", "Tournament", "Score:", a_tournamentScore, "\n" );
+        a_formatter.format("%s %s %d%s", "Round", "No:", m_roundCount, "\n");
+        savePlayerInfo( m_computerPlayer, a_formatter, m_computerTournamentScore );
+        savePlayerInfo( m_humanPlayer, a_formatter, m_humanTournamentScore );
+        saveEngineInfo( a_formatter );
+        saveTable( a_formatter );
+        saveStock( a_formatter );
+        saveOtherInfo( a_formatter );
+    }
+
     /**/
     /*
     private void savePlayerInfo( Player a_player, Formatter a_formatter, int a_tournamentScore )
@@ -1192,9 +1372,12 @@ public class Round implements Serializable {
     private void saveTable( Formatter a_formatter ){
         a_formatter.format( "%s%s%s", "\n", "Layout:", "\n");
 
-        // Save left side of the table
+        // Save left side of the table as it is seen, from its open end in to the engine. The side
+        // keeps its tiles from the engine outwards
         a_formatter.format("  %s", "L");
-        saveTiles( m_table.getLeftSide().getAllTiles(), a_formatter );
+        ArrayList<Tile> leftSide = m_table.getLeftSide().getAllTiles();
+        Collections.reverse( leftSide );
+        saveTiles( leftSide, a_formatter );
 
         // Save engine
         a_formatter.format(" %s", m_engine.toString() );
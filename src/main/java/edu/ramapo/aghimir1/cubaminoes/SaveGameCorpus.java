@@ -0,0 +1,140 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ The game states collected by SaveGameImporter, each kept as a TournamentSnapshot. A corpus either
+ keeps the snapshots in memory, or appends them to a file as they arrive, each after a byte that
+ holds its length. Several threads may add to a corpus at the same time.
+ */
+public class SaveGameCorpus {
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private ArrayList<byte []> m_snapshots;  // null for a corpus on disk
+    private DataOutputStream m_out;          // null for a corpus in memory
+    private int m_size;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+
+    // A corpus in memory
+    public SaveGameCorpus(){
+        m_snapshots = new ArrayList<>();
+    }
+
+    // A corpus written to a file, replacing the file if it exists
+    public SaveGameCorpus( String a_fileName ) throws IOException {
+        m_out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( a_fileName ) ) );
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public synchronized int size(){
+        return m_size;
+    }
+
+    public boolean isInMemory(){
+        return m_snapshots != null;
+    }
+
+    /**
+     Get a snapshot of a corpus in memory
+     @param a_index index of the snapshot, in the order they were added
+     @return the snapshot, to be read with TournamentSnapshot.read
+     */
+    public synchronized byte [] get( int a_index ){
+        if( m_snapshots == null )
+            throw new IllegalStateException( "The snapshots of the corpus are on disk" );
+
+        return m_snapshots.get( a_index );
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+    public synchronized void add( byte [] a_snapshot ) throws IOException {
+        if( m_snapshots != null ){
+            m_snapshots.add( a_snapshot );
+        }
+        else{
+            m_out.writeByte( a_snapshot.length );
+            m_out.write( a_snapshot );
+        }
+
+        m_size++;
+    }
+
+    /**
+     Write out what a corpus on disk still buffers and close its file. A corpus in memory has
+     nothing to close
+     */
+    public synchronized void close() throws IOException {
+        if( m_out != null )
+            m_out.close();
+    }
+
+    /**/
+    /*
+    load
+
+    NAME
+
+        load - Read a corpus written to a file back into memory
+
+    SYNOPSIS
+
+        public static SaveGameCorpus load( String a_fileName )
+            a_fileName - absolute path of a file written by a corpus on disk
+
+    DESCRIPTION
+
+        Read the snapshots one after the other until the end of the file. The snapshots are not
+        decoded, so a corpus of any size loads without building a single Tournament
+
+    RETURNS
+
+        A corpus in memory with the snapshots of the file, in the same order
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static SaveGameCorpus load( String a_fileName ) throws IOException {
+        SaveGameCorpus corpus = new SaveGameCorpus();
+        DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( a_fileName ) ) );
+
+        try{
+            int length;
+            while( (length = in.read()) >= 0 ){
+                byte [] snapshot = new byte[length];
+                in.readFully( snapshot );
+                corpus.add( snapshot );
+            }
+        }
+        catch( EOFException e ){
+            throw new IOException( "The last snapshot of the corpus is truncated" );
+        }
+        finally{
+            in.close();
+        }
+
+        return corpus;
+    }
+}
@@ -0,0 +1,193 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+public class SaveGameImporter {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final String SAVE_FILE_EXTENSION = ".txt";
+
+    // Largest range of files one thread imports
+    private static final int FILES_PER_TASK = 64;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private List<File> m_files;
+    private SaveGameCorpus m_corpus;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    SaveGameImporter( List<File> a_files, SaveGameCorpus a_corpus ){
+        m_files = a_files;
+        m_corpus = a_corpus;
+    }
+
+    /**/
+    /*
+    findSaveFiles
+
+    NAME
+
+        findSaveFiles - List the save files in a directory and all of its subdirectories
+
+    SYNOPSIS
+
+        public static List<File> findSaveFiles( File a_directory )
+            a_directory - the directory to search
+
+    DESCRIPTION
+
+        Walk the directory tree and collect every file whose name ends with SAVE_FILE_EXTENSION
+
+    RETURNS
+
+        The save files found, in no particular order
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static List<File> findSaveFiles( File a_directory ){
+        List<File> files = new ArrayList<>();
+        ArrayList<File> directories = new ArrayList<>();
+        directories.add( a_directory );
+
+        while( !directories.isEmpty() ){
+            File [] entries = directories.remove( directories.size() - 1 ).listFiles();
+            if( entries == null )
+                continue;
+
+            for(File i: entries){
+                if( i.isDirectory() )
+                    directories.add( i );
+                else if( i.getName().endsWith( SAVE_FILE_EXTENSION ) )
+                    files.add( i );
+            }
+        }
+
+        return files;
+    }
+
+    /**/
+    /*
+    importFiles
+
+    NAME
+
+        importFiles - Parse the save files on all the threads of a ForkJoinPool
+
+    SYNOPSIS
+
+        public ImportStats importFiles( ForkJoinPool a_pool )
+            a_pool - the pool whose threads parse the files
+
+    DESCRIPTION
+
+        A RangeTask splits the list of files in half until a range has no more than FILES_PER_TASK
+        files. Each such range is parsed by one thread with its own SaveGameParser. A file whose
+        tiles are all there exactly once is added to the corpus as a TournamentSnapshot. Other
+        files are only counted
+
+    RETURNS
+
+        The merged counts of all the files, including the wall clock time it took to import them
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public ImportStats importFiles( ForkJoinPool a_pool ){
+        long start = System.nanoTime();
+
+        RangeTask.Body<ImportStats> body = new RangeTask.Body<ImportStats>() {
+            @Override
+            public ImportStats computeRange( long a_first, long a_last, SplittableRandom a_random ){
+                return importRange( (int) a_first, (int) a_last );
+            }
+
+            @Override
+            public void merge( ImportStats a_result, ImportStats a_other ){
+                a_result.merge( a_other );
+            }
+        };
+        ImportStats stats = a_pool.invoke( new RangeTask<>( body, 0, m_files.size(), FILES_PER_TASK, null ) );
+
+        stats.addElapsedNanos( System.nanoTime() - start );
+        return stats;
+    }
+
+    // Import the files numbered from a_first (inclusive) to a_last (exclusive) on the calling
+    // thread, with a parser of its own
+    private ImportStats importRange( int a_first, int a_last ){
+        ImportStats stats = new ImportStats();
+        SaveGameParser parser = new SaveGameParser();
+
+        for(int i = a_first; i < a_last; i++){
+            try{
+                parser.load( m_files.get(i).getPath() );
+            }
+            catch( IOException e ){
+                stats.recordUnreadable();
+                continue;
+            }
+
+            if( !parser.conservesTiles() ){
+                stats.recordNotConserving();
+                continue;
+            }
+
+            Tournament tournament = new Tournament( parser.getTournamentScore(), Computer.GREEDY_STRATEGY,
+                    parser.getHumanScore(), parser.getComputerScore(), parser.createRound() );
+            try{
+                m_corpus.add( TournamentSnapshot.write( tournament ) );
+            }
+            catch( IOException e ){
+                throw new IllegalStateException( "Could not write to the corpus", e );
+            }
+            stats.recordImported();
+        }
+
+        return stats;
+    }
+
+    // Usage: SaveGameImporter directory [corpus file] [number of threads]
+    // Without a corpus file the states are kept in memory and only counted
+    public static void main( String [] args ) throws IOException {
+        if( args.length == 0 ){
+            System.out.println( "Usage: SaveGameImporter directory [corpus file] [number of threads]" );
+            return;
+        }
+
+        int threads = args.length > 2? Integer.parseInt( args[2] ): Runtime.getRuntime().availableProcessors();
+        SaveGameCorpus corpus = args.length > 1? new SaveGameCorpus( args[1] ): new SaveGameCorpus();
+
+        List<File> files = findSaveFiles( new File( args[0] ) );
+        SaveGameImporter importer = new SaveGameImporter( files, corpus );
+        ForkJoinPool pool = new ForkJoinPool( threads );
+        ImportStats stats = importer.importFiles( pool );
+        pool.shutdown();
+        corpus.close();
+
+        System.out.println( "Threads: " + threads );
+        System.out.print( stats );
+    }
+}
@@ -0,0 +1,453 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ Reads the text save format written by Round.saveGame in a single pass over the bytes of the file.
+ A line that starts with words and a colon is a label, e.g. "Round No:" or "  Hand:". Everything up
+ to the next label is read as tokens of the label's section: numbers, tiles such as "6-4", and
+ words such as "Yes", "Human" or the "L" and "R" that mark the ends of the layout.
+
+ Tiles go straight into the lists that the hands, the sides and the stock are built from. A parser
+ keeps its buffer and its lists between files, so importing many files allocates little more than
+ the Tile lists that the round keeps.
+ */
+public class SaveGameParser {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    private static final int NO_SECTION = -1;
+    private static final int TOURNAMENT_SCORE = 0;
+    private static final int ROUND_NO = 1;
+    private static final int COMPUTER = 2;
+    private static final int HUMAN = 3;
+    private static final int HAND = 4;
+    private static final int SCORE = 5;
+    private static final int ENGINE = 6;
+    private static final int LAYOUT = 7;
+    private static final int STOCK = 8;
+    private static final int PREVIOUS_PLAYER_PASSED = 9;
+    private static final int NEXT_PLAYER = 10;
+
+    // Labels of the sections, indexed by section
+    private static final String [] LABELS = { "Tournament Score", "Round No", "Computer", "Human", "Hand", "Score",
+            "Engine", "Layout", "Stock", "Previous Player Passed", "Next Player" };
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private byte [] m_buffer;
+    private byte [] m_text;
+    private int m_length;
+    private int m_pos;
+
+    private int m_tournamentScore;
+    private int m_roundNumber;
+    private int m_humanScore;
+    private int m_computerScore;
+    private int m_player;               // HUMAN or COMPUTER, whichever section was read last
+    private Tile m_engine;
+    private boolean m_onRightSide;      // The engine has been read in the layout
+    private boolean m_previousPlayerPassed;
+    private int m_nextPlayer;           // HUMAN, COMPUTER or NO_SECTION
+    private ArrayList<Tile> m_humanHand;
+    private ArrayList<Tile> m_computerHand;
+    private ArrayList<Tile> m_leftSide;  // From the engine outwards, the order of Side
+    private ArrayList<Tile> m_rightSide;
+    private ArrayList<Tile> m_stock;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public SaveGameParser(){
+        m_buffer = new byte[INITIAL_BUFFER_SIZE];
+        m_humanHand = new ArrayList<>();
+        m_computerHand = new ArrayList<>();
+        m_leftSide = new ArrayList<>();
+        m_rightSide = new ArrayList<>();
+        m_stock = new ArrayList<>();
+        reset();
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getTournamentScore() { return m_tournamentScore; }
+
+    public int getRoundNumber() { return m_roundNumber; }
+
+    public int getHumanScore() { return m_humanScore; }
+
+    public int getComputerScore() { return m_computerScore; }
+
+    /**
+     @return the engine of the round, or null if the file has none
+     */
+    public Tile getEngine() { return m_engine; }
+
+    /**
+     Check that the last parsed file holds every tile of the set exactly once, counting both hands,
+     both sides of the table, the stock and the engine. A layout without an engine fails, since the
+     table can't be rebuilt from it and its tiles would be lost
+     @return true if the file's tiles are all there with no duplicates
+     */
+    public boolean conservesTiles(){
+        if( m_engine == null && !(m_leftSide.isEmpty() && m_rightSide.isEmpty()) )
+            return false;
+
+        long seen = maskOf( m_humanHand ) | maskOf( m_computerHand ) | maskOf( m_leftSide ) | maskOf( m_rightSide )
+                | maskOf( m_stock );
+        int count = m_humanHand.size() + m_computerHand.size() + m_leftSide.size() + m_rightSide.size() + m_stock.size();
+
+        if( m_engine != null ){
+            seen = TileSet.add( seen, m_engine.getId() );
+            count++;
+        }
+
+        // 28 tiles that cover the whole set can't have a duplicate among them
+        return count == TileSet.NUM_TILES && seen == TileSet.ALL;
+    }
+
+    private static long maskOf( ArrayList<Tile> a_tiles ){
+        long mask = TileSet.EMPTY;
+
+        for(Tile i: a_tiles)
+            mask = TileSet.add( mask, i.getId() );
+
+        return mask;
+    }
+
+    /* *********************************************
+    Parsing
+    ********************************************* */
+
+    /**
+     Read a save file and parse it
+     @param a_fileName absolute path of the file
+     */
+    public void load( String a_fileName ) throws IOException {
+        InputStream in = new FileInputStream( a_fileName );
+        int length = 0;
+
+        try{
+            int count;
+            while( (count = in.read( m_buffer, length, m_buffer.length - length )) > 0 ){
+                length += count;
+                if( length == m_buffer.length ){
+                    byte [] bigger = new byte[m_buffer.length * 2];
+                    System.arraycopy( m_buffer, 0, bigger, 0, length );
+                    m_buffer = bigger;
+                }
+            }
+        }
+        finally{
+            in.close();
+        }
+
+        parse( m_buffer, length );
+    }
+
+    /**/
+    /*
+    parse
+
+    NAME
+
+        parse - Parse the text of a save file
+
+    SYNOPSIS
+
+        public void parse( byte [] a_text, int a_length )
+            a_text - the text of the file in ASCII
+            a_length - the number of bytes of a_text to parse
+
+    DESCRIPTION
+
+        Walk the text once. A run of letters and spaces that ends with a colon is a label and starts
+        a new section. Any other run of letters is a word, a digit followed by a dash and a digit is
+        a tile, and any other run of digits is a number. Each token is stored according to the
+        section it is in. Lines with unknown labels are skipped, like the old line-based loader did
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void parse( byte [] a_text, int a_length ) throws IOException {
+        reset();
+        m_text = a_text;
+        m_length = a_length;
+        m_pos = 0;
+
+        int section = NO_SECTION;
+
+        while( m_pos < m_length ){
+            int c = m_text[m_pos];
+
+            if( isLetter(c) ){
+                // A label runs over letters and spaces up to a colon
+                int end = m_pos;
+                while( end < m_length && (isLetter(m_text[end]) || m_text[end] == ' ') )
+                    end++;
+
+                if( end < m_length && m_text[end] == ':' ){
+                    section = findSection( m_pos, end );
+                    m_pos = end + 1;
+                    continue;
+                }
+
+                int wordEnd = m_pos;
+                while( wordEnd < m_length && isLetter(m_text[wordEnd]) )
+                    wordEnd++;
+
+                readWord( section, m_pos, wordEnd );
+                m_pos = wordEnd;
+            }
+            else if( isDigit(c) ){
+                if( m_pos + 2 < m_length && m_text[m_pos + 1] == '-' && isDigit(m_text[m_pos + 2]) ){
+                    readTile( section, Tile.valueOf( c - '0', m_text[m_pos + 2] - '0' ) );
+                    m_pos += 3;
+                }
+                else{
+                    int value = 0;
+                    while( m_pos < m_length && isDigit(m_text[m_pos]) )
+                        value = value * 10 + m_text[m_pos++] - '0';
+
+                    readNumber( section, value );
+                }
+            }
+            else if( c == '\n' && section != LAYOUT && section != STOCK && section != HAND ){
+                // Only the tile lists may continue past the end of their label's line
+                section = NO_SECTION;
+                m_pos++;
+            }
+            else{
+                m_pos++;
+            }
+        }
+
+        // The file lists the left side as it is seen, from its open end in to the engine
+        Collections.reverse( m_leftSide );
+    }
+
+    private void reset(){
+        m_tournamentScore = UserInput.INVALID_OPTION;
+        m_roundNumber = UserInput.INVALID_OPTION;
+        m_humanScore = UserInput.INVALID_OPTION;
+        m_computerScore = UserInput.INVALID_OPTION;
+        m_player = NO_SECTION;
+        m_engine = null;
+        m_onRightSide = false;
+        m_previousPlayerPassed = false;
+        m_nextPlayer = NO_SECTION;
+        m_humanHand.clear();
+        m_computerHand.clear();
+        m_leftSide.clear();
+        m_rightSide.clear();
+        m_stock.clear();
+    }
+
+    // Find the section whose label is the text from a_start to a_end, ignoring trailing spaces
+    private int findSection( int a_start, int a_end ){
+        while( a_end > a_start && m_text[a_end - 1] == ' ' )
+            a_end--;
+
+        for(int section = 0; section < LABELS.length; section++){
+            if( matches( a_start, a_end, LABELS[section] ) ){
+                if( section == HUMAN || section == COMPUTER )
+                    m_player = section;
+                return section;
+            }
+        }
+
+        return NO_SECTION;
+    }
+
+    private boolean matches( int a_start, int a_end, String a_word ){
+        if( a_end - a_start != a_word.length() )
+            return false;
+
+        for(int i = 0; i < a_word.length(); i++){
+            if( Character.toLowerCase( (char) m_text[a_start + i] ) != Character.toLowerCase( a_word.charAt(i) ) )
+                return false;
+        }
+
+        return true;
+    }
+
+    private void readWord( int a_section, int a_start, int a_end ){
+        switch( a_section ){
+            case PREVIOUS_PLAYER_PASSED:
+                m_previousPlayerPassed = m_text[a_start] == 'Y' || m_text[a_start] == 'y';
+                break;
+
+            case NEXT_PLAYER:
+                if( matches( a_start, a_end, LABELS[HUMAN] ) )
+                    m_nextPlayer = HUMAN;
+                else if( matches( a_start, a_end, LABELS[COMPUTER] ) )
+                    m_nextPlayer = COMPUTER;
+                break;
+
+            default:
+                // "L" and "R" only mark the ends of the layout
+                break;
+        }
+    }
+
+    private void readNumber( int a_section, int a_value ){
+        switch( a_section ){
+            case TOURNAMENT_SCORE:
+                m_tournamentScore = a_value;
+                break;
+
+            case ROUND_NO:
+                m_roundNumber = a_value;
+                break;
+
+            case SCORE:
+                if( m_player == HUMAN )
+                    m_humanScore = a_value;
+                else if( m_player == COMPUTER )
+                    m_computerScore = a_value;
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private void readTile( int a_section, Tile a_tile ) throws IOException {
+        if( a_tile.getId() == TileSet.INVALID_ID )
+            throw new IOException( "Invalid tile at offset " + m_pos );
+
+        switch( a_section ){
+            case HAND:
+                if( m_player == HUMAN )
+                    m_humanHand.add( a_tile );
+                else if( m_player == COMPUTER )
+                    m_computerHand.add( a_tile );
+                break;
+
+            case ENGINE:
+                m_engine = a_tile;
+                break;
+
+            case LAYOUT:
+                if( !m_onRightSide && m_engine != null && a_tile.equals( m_engine ) )
+                    m_onRightSide = true;
+                else if( m_onRightSide )
+                    m_rightSide.add( a_tile );
+                else
+                    m_leftSide.add( a_tile );
+                break;
+
+            case STOCK:
+                m_stock.add( a_tile );
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private static boolean isLetter( int a_c ){
+        return (a_c >= 'a' && a_c <= 'z') || (a_c >= 'A' && a_c <= 'Z');
+    }
+
+    private static boolean isDigit( int a_c ){
+        return a_c >= '0' && a_c <= '9';
+    }
+
+    /* *********************************************
+    Building the round
+    ********************************************* */
+
+    /**/
+    /*
+    createRound
+
+    NAME
+
+        createRound - Build the round described by the last parsed file
+
+    SYNOPSIS
+
+        public Round createRound()
+
+    DESCRIPTION
+
+        Build both players with their hands, the stock, and the table with its open stones. The
+        pass flag in the file belongs to the player who is not next. The computer player plays the
+        greedy strategy, since the text format does not record the strategy
+
+    RETURNS
+
+        A Round ready to continue. If the file has no engine, the round still has to be set up
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public Round createRound(){
+        Human human = new Human( m_humanHand );
+        Computer computer = new Computer( m_computerHand );
+        String nextPlayer = "";
+
+        if( m_nextPlayer == HUMAN ){
+            computer.setPass( m_previousPlayerPassed );
+            nextPlayer = human.getPlayerString();
+        }
+        else if( m_nextPlayer == COMPUTER ){
+            human.setPass( m_previousPlayerPassed );
+            nextPlayer = computer.getPlayerString();
+        }
+
+        return new Round( m_roundNumber, m_engine, human, computer, new Stock( m_stock ), createTable(), nextPlayer,
+                m_humanScore, m_computerScore );
+    }
+
+    private Table createTable(){
+        if( m_engine == null )
+            return new Table();
+
+        Table table = new Table( createSide( Player.LEFT, m_leftSide, m_engine.getLeftStone() ),
+                createSide( Player.RIGHT, m_rightSide, m_engine.getRightStone() ) );
+        table.setEngine( m_engine );
+        return table;
+    }
+
+    // The open stone of a side is the outer stone of its last tile, or the engine's if it has none
+    private static Side createSide( String a_sideString, ArrayList<Tile> a_tiles, int a_engineStone ){
+        Side side = new Side( a_sideString );
+
+        if( a_tiles.isEmpty() ){
+            side.setOpenStone( a_engineStone );
+            return side;
+        }
+
+        Tile outer = a_tiles.get( a_tiles.size() - 1 );
+        side.setOpenStone( a_sideString.equals( Player.LEFT )? outer.getLeftStone(): outer.getRightStone() );
+        side.setTile( a_tiles );
+        return side;
+    }
+}
@@ -4,12 +4,20 @@ import java.io.Serializable;
 import java.util.ArrayList;
 
 public class Side implements Serializable {
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Index of each side wherever sides (or the players owning them) are kept in arrays
+    public static final int LEFT_INDEX = 0;
+    public static final int RIGHT_INDEX = 1;
+
     /* *********************************************
     Class member variables
     ********************************************* */
     private ArrayList<Tile> m_tile;
     private int m_openStone;
     private String m_sideString; // Side string can be either left or right
+    private long m_tileMask; // The tiles in m_tile as a TileSet
 
     /* *********************************************
     Constructor
@@ -18,6 +26,7 @@ public class Side implements Serializable {
         m_tile = new ArrayList<>();
         m_openStone = Tile.UNDEFINED_STONE;
         m_sideString = a_sideString;
+        m_tileMask = TileSet.EMPTY;
     }
 
     /* *********************************************
@@ -33,6 +42,9 @@ public class Side implements Serializable {
     public void setTile( ArrayList<Tile> a_hand ){
 
         m_tile = (ArrayList) a_hand.clone();
+        m_tileMask = TileSet.EMPTY;
+        for(Tile i: m_tile)
+            m_tileMask = TileSet.add( m_tileMask, TileSet.idOf(i) );
     }
 
     /* *********************************************
@@ -48,6 +60,10 @@ public class Side implements Serializable {
         return (ArrayList) m_tile.clone();
     }
 
+    public long getTileMask(){
+        return m_tileMask;
+    }
+
     /* *********************************************
     Utility functions
     ********************************************* */
@@ -66,7 +82,8 @@ public class Side implements Serializable {
 
     DESCRIPTION
 
-        Legitimately add a tile to the side
+        Legitimately add a tile to the side. The tile is stored with its stones in the order it is
+        laid on the side, which may be the flipped version of a_tile. a_tile itself never changes
 
     RETURNS
 
@@ -87,21 +104,23 @@ public class Side implements Serializable {
 
         if( m_sideString.equals(Player.RIGHT) ){
             if(a_tile.getRightStone() == m_openStone )
-                // Swap left and right stone of the a_tile
-                a_tile.swapStone();
+                // Use the tile with its left and right stones swapped
+                a_tile = a_tile.flipped();
 
             m_openStone = a_tile.getRightStone();
             m_tile.add(a_tile);
+            m_tileMask = TileSet.add( m_tileMask, TileSet.idOf(a_tile) );
             return true;
         }
 
         if ( m_sideString.equals(Player.LEFT) ){
             if(a_tile.getLeftStone() == m_openStone)
-                // Swap left and right stone of the a_tile
-                a_tile.swapStone();
+                // Use the tile with its left and right stones swapped
+                a_tile = a_tile.flipped();
 
             m_openStone = a_tile.getLeftStone();
             m_tile.add(a_tile);
+            m_tileMask = TileSet.add( m_tileMask, TileSet.idOf(a_tile) );
             return true;
         }
 
@@ -0,0 +1,234 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.Locale;
+
+public class SimulationStats {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // Sum of the stones of all 28 tiles. A round can't award more than twice this value, since a
+    // player who empties his hand is credited by both endRoundHandEmpty and endRoundBothPlayersPass
+    public static final int TOTAL_STONES = 168;
+    public static final int MAX_ROUND_POINTS = 2 * TOTAL_STONES;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private long m_rounds;
+    private long m_leftWins;
+    private long m_rightWins;
+    private long m_ties;
+    private long m_failedRounds;
+    private long m_totalMoves;
+    private long m_leftPoints;
+    private long m_rightPoints;
+    private long m_elapsedNanos;
+    private long m_tournaments;
+    private long m_leftTournamentWins;
+    private long m_rightTournamentWins;
+    private long [] m_leftPointsHistogram;
+    private long [] m_rightPointsHistogram;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    SimulationStats(){
+        m_leftPointsHistogram = new long[MAX_ROUND_POINTS + 1];
+        m_rightPointsHistogram = new long[MAX_ROUND_POINTS + 1];
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public long getRounds() { return m_rounds; }
+
+    public long getLeftWins() { return m_leftWins; }
+
+    public long getRightWins() { return m_rightWins; }
+
+    public long getTies() { return m_ties; }
+
+    public long getFailedRounds() { return m_failedRounds; }
+
+    public long getTotalMoves() { return m_totalMoves; }
+
+    public long getLeftPoints() { return m_leftPoints; }
+
+    public long getRightPoints() { return m_rightPoints; }
+
+    public long getElapsedNanos() { return m_elapsedNanos; }
+
+    public long getTournaments() { return m_tournaments; }
+
+    public long getLeftTournamentWins() { return m_leftTournamentWins; }
+
+    public long getRightTournamentWins() { return m_rightTournamentWins; }
+
+    public long [] getLeftPointsHistogram() { return m_leftPointsHistogram.clone(); }
+
+    public long [] getRightPointsHistogram() { return m_rightPointsHistogram.clone(); }
+
+    public double getRoundsPerSecond(){
+        if( m_elapsedNanos == 0 )
+            return 0;
+
+        return m_rounds * 1e9 / m_elapsedNanos;
+    }
+
+    public double getLeftWinRate(){
+        if( m_rounds == 0 )
+            return 0;
+
+        return (double) m_leftWins / m_rounds;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+    public void addElapsedNanos( long a_nanos ){
+        m_elapsedNanos += a_nanos;
+    }
+
+    public void recordFailedRound(){
+        m_failedRounds++;
+    }
+
+    // a_winner is Side.LEFT_INDEX or Side.RIGHT_INDEX for the side that won, any other value for a tie
+    public void recordTournament( int a_winner ){
+        m_tournaments++;
+
+        if( a_winner == Side.LEFT_INDEX )
+            m_leftTournamentWins++;
+        else if( a_winner == Side.RIGHT_INDEX )
+            m_rightTournamentWins++;
+    }
+
+    /**/
+    /*
+    recordRound
+
+    NAME
+
+        recordRound - Add the result of one finished round to the statistics
+
+    SYNOPSIS
+
+        public void recordRound( int a_winner, int a_leftPoints, int a_rightPoints, int a_moves )
+            a_winner - Side.LEFT_INDEX or Side.RIGHT_INDEX for the side that won, any other value for a tie
+            a_leftPoints - points the left player got in the round
+            a_rightPoints - points the right player got in the round
+            a_moves - number of valid moves (placements, draws and passes) made in the round
+
+    DESCRIPTION
+
+        Update the win counts, the point totals and the point histograms. Points larger than
+        MAX_ROUND_POINTS are counted in the last bucket of the histogram
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void recordRound( int a_winner, int a_leftPoints, int a_rightPoints, int a_moves ){
+        m_rounds++;
+        m_totalMoves += a_moves;
+        m_leftPoints += a_leftPoints;
+        m_rightPoints += a_rightPoints;
+
+        if( a_winner == Side.LEFT_INDEX )
+            m_leftWins++;
+        else if( a_winner == Side.RIGHT_INDEX )
+            m_rightWins++;
+        else
+            m_ties++;
+
+        m_leftPointsHistogram[ Math.min(a_leftPoints, MAX_ROUND_POINTS) ]++;
+        m_rightPointsHistogram[ Math.min(a_rightPoints, MAX_ROUND_POINTS) ]++;
+    }
+
+    /**/
+    /*
+    merge
+
+    NAME
+
+        merge - Add the statistics collected by another simulation to this one
+
+    SYNOPSIS
+
+        public void merge( SimulationStats a_other )
+            a_other - statistics to add to this object
+
+    DESCRIPTION
+
+        Add every counter and every histogram bucket of a_other to this object. Elapsed time is
+        not added since simulations merged this way usually ran at the same time
+
+    RETURNS
+
+        None
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public void merge( SimulationStats a_other ){
+        m_rounds += a_other.m_rounds;
+        m_leftWins += a_other.m_leftWins;
+        m_rightWins += a_other.m_rightWins;
+        m_ties += a_other.m_ties;
+        m_failedRounds += a_other.m_failedRounds;
+        m_totalMoves += a_other.m_totalMoves;
+        m_leftPoints += a_other.m_leftPoints;
+        m_rightPoints += a_other.m_rightPoints;
+        m_tournaments += a_other.m_tournaments;
+        m_leftTournamentWins += a_other.m_leftTournamentWins;
+        m_rightTournamentWins += a_other.m_rightTournamentWins;
+
+        for(int i = 0; i <= MAX_ROUND_POINTS; i++){
+            m_leftPointsHistogram[i] += a_other.m_leftPointsHistogram[i];
+            m_rightPointsHistogram[i] += a_other.m_rightPointsHistogram[i];
+        }
+    }
+
+    @Override
+    public String toString() {
+        long rounds = Math.max(m_rounds, 1);
+        final StringBuilder sb = new StringBuilder();
+
+        if( m_tournaments > 0 )
+            sb.append(String.format(Locale.US, "Tournaments: %d (left won %d, right won %d)%n",
+                    m_tournaments, m_leftTournamentWins, m_rightTournamentWins));
+
+        sb.append(String.format(Locale.US, "Rounds: %d (%d failed)%n", m_rounds, m_failedRounds));
+        sb.append(String.format(Locale.US, "Rounds per second: %.0f%n", getRoundsPerSecond()));
+        sb.append(String.format(Locale.US, "Left wins: %d (%.2f%%)%n", m_leftWins, 100.0 * m_leftWins / rounds));
+        sb.append(String.format(Locale.US, "Right wins: %d (%.2f%%)%n", m_rightWins, 100.0 * m_rightWins / rounds));
+        sb.append(String.format(Locale.US, "Ties: %d (%.2f%%)%n", m_ties, 100.0 * m_ties / rounds));
+        sb.append(String.format(Locale.US, "Average points per round: left %.2f, right %.2f%n",
+                (double) m_leftPoints / rounds, (double) m_rightPoints / rounds));
+        sb.append(String.format(Locale.US, "Average moves per round: %.2f%n", (double) m_totalMoves / rounds));
+        sb.append("Points histogram (points: left right)\n");
+
+        for(int i = 0; i <= MAX_ROUND_POINTS; i++){
+            if( m_leftPointsHistogram[i] != 0 || m_rightPointsHistogram[i] != 0 )
+                sb.append(String.format(Locale.US, "  %3d: %d %d%n", i, m_leftPointsHistogram[i], m_rightPointsHistogram[i]));
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,308 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+public class Simulator {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    // A round can't legitimately take this many moves. Reaching it means the players are stuck
+    public static final int MAX_MOVES_PER_ROUND = 1000;
+    // Node budget of the endgame solver of the simulated computers, a few milliseconds of search on
+    // a desktop. A time budget would make the results depend on the load of the machine
+    public static final long ENDGAME_NODE_BUDGET = 50000;
+    private static final long DEFAULT_ROUNDS = 1000000;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private Player m_leftPlayer;
+    private Player m_rightPlayer;
+    private SplittableRandom m_random;       // Split once for every round
+    private GameRecordWriter m_recordWriter; // Where the rounds are recorded, or null
+    private GameStatsStore m_statsStore;     // Where the statistics of the rounds go, or null
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    Simulator( Player a_leftPlayer, Player a_rightPlayer ){
+        this( a_leftPlayer, a_rightPlayer, new SplittableRandom() );
+    }
+
+    // With a seeded generator, simulate deals the same rounds every time it is run
+    Simulator( Player a_leftPlayer, Player a_rightPlayer, SplittableRandom a_random ){
+        m_leftPlayer = a_leftPlayer;
+        m_rightPlayer = a_rightPlayer;
+        m_random = a_random;
+    }
+
+    /**
+     Record every round played from now on
+     @param a_recordWriter the file the GameRecords of the rounds are written to, or null to stop
+     recording
+     */
+    public void setRecordWriter( GameRecordWriter a_recordWriter ){
+        m_recordWriter = a_recordWriter;
+    }
+
+    /**
+     Add the statistics of every round played from now on to a store
+     @param a_statsStore the store, or null to stop adding rounds
+     */
+    public void setStatsStore( GameStatsStore a_statsStore ){
+        m_statsStore = a_statsStore;
+    }
+
+    /**/
+    /*
+    simulate
+
+    NAME
+
+        simulate - Play a number of rounds between the two players without any user interface
+
+    SYNOPSIS
+
+        public SimulationStats simulate( long a_numRounds )
+            a_numRounds - number of rounds to play
+
+    DESCRIPTION
+
+        Play a_numRounds independent rounds between the left and the right player. The same two
+        Player objects are reused for every round, so they are reset before each round starts.
+        Each round's stock is shuffled with a generator split from the simulator's
+
+    RETURNS
+
+        The statistics collected over all the rounds, including the time it took to play them
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public SimulationStats simulate( long a_numRounds ){
+        SimulationStats stats = new SimulationStats();
+        long start = System.nanoTime();
+
+        for(long i = 0; i < a_numRounds; i++){
+            m_leftPlayer.resetForNewRound();
+            m_rightPlayer.resetForNewRound();
+
+            // The round number decides the engine, so consecutive rounds cycle through all engines
+            Round round = new Round((int) (i % (Tile.MAX_VALUE_OF_A_STONE + 1)) + 1, 0, 0, m_leftPlayer, m_rightPlayer, m_random.split());
+            playRound( round, stats, m_recordWriter, m_statsStore );
+        }
+
+        stats.addElapsedNanos( System.nanoTime() - start );
+        return stats;
+    }
+
+    /**/
+    /*
+    playRound
+
+    NAME
+
+        playRound - Play a round from the deal until it is over
+
+    SYNOPSIS
+
+        public static boolean playRound( Round a_round, SimulationStats a_stats )
+            a_round - a round that has not been set up yet
+            a_stats - statistics the result of the round is added to
+
+    DESCRIPTION
+
+        Drive a round the same way GameActivity does: deal the hands, draw a tile each until a player
+        has the engine, place the engine and let the players make moves until the round ends. Both
+        players have to choose their own moves, so neither of them should be a Human
+
+    RETURNS
+
+        true if the round ended normally. false if a player made an invalid move or the round
+        did not end in MAX_MOVES_PER_ROUND moves
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static boolean playRound( Round a_round, SimulationStats a_stats ){
+        return playRound( a_round, a_stats, null, null );
+    }
+
+    /**/
+    /*
+    playRound
+
+    NAME
+
+        playRound - Play a round from the deal until it is over, and record it
+
+    SYNOPSIS
+
+        public static boolean playRound( Round a_round, SimulationStats a_stats, GameRecordWriter a_recordWriter,
+                                         GameStatsStore a_statsStore )
+            a_round - a round that has not been set up yet
+            a_stats - statistics the result of the round is added to
+            a_recordWriter - the file the GameRecord of the round is written to, or null
+            a_statsStore - the store the statistics of the round are added to, or null
+
+    DESCRIPTION
+
+        Play the round like playRound( a_round, a_stats ). Once the engine is placed, a GameRecorder
+        keeps the moves. When the round ends normally, its record is written to the file and added
+        to the store
+
+    RETURNS
+
+        true if the round ended normally. false if a player made an invalid move or the round
+        did not end in MAX_MOVES_PER_ROUND moves
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static boolean playRound( Round a_round, SimulationStats a_stats, GameRecordWriter a_recordWriter,
+                                     GameStatsStore a_statsStore ){
+        a_round.setUpRound();
+
+        while( !a_round.aPlayerHasEngine() ){
+            if( a_round.getStock().isEmpty() ){
+                a_stats.recordFailedRound();
+                return false;
+            }
+            a_round.drawATileEach();
+        }
+
+        a_round.placeEngine();
+        GameRecorder recorder = a_recordWriter == null && a_statsStore == null? null: new GameRecorder( a_round );
+
+        int moves = 0;
+        while( !a_round.endRound() ){
+            if( !a_round.makeMove( a_round.getWhoIsPlaying() ) || ++moves > MAX_MOVES_PER_ROUND ){
+                a_stats.recordFailedRound();
+                return false;
+            }
+        }
+
+        if( recorder != null ){
+            GameRecord record = recorder.finish();
+
+            if( a_statsStore != null )
+                a_statsStore.add( record );
+
+            if( a_recordWriter != null ){
+                try{
+                    a_recordWriter.write( record );
+                }
+                catch( IOException e ){
+                    throw new IllegalStateException( "Could not record the round", e );
+                }
+            }
+        }
+
+        Player left = a_round.getHuman();
+        Player right = a_round.getComputer();
+        Player winner = a_round.getWinner();
+
+        int winnerIndex = UserInput.INVALID_OPTION;
+        if( winner == left )
+            winnerIndex = Side.LEFT_INDEX;
+        else if( winner == right )
+            winnerIndex = Side.RIGHT_INDEX;
+
+        a_stats.recordRound( winnerIndex, left.getScore(), right.getScore(), moves );
+        return true;
+    }
+
+    /**/
+    /*
+    playTournament
+
+    NAME
+
+        playTournament - Play every round of a tournament until the tournament is over
+
+    SYNOPSIS
+
+        public static boolean playTournament( Tournament a_tournament, SimulationStats a_stats )
+            a_tournament - a tournament created with its own left and right players
+            a_stats - statistics the results of the rounds and of the tournament are added to
+
+    DESCRIPTION
+
+        Play the tournament's current round, then keep starting new rounds until one of the players
+        reaches the tournament's maximum score
+
+    RETURNS
+
+        true if the tournament ended normally. false if one of its rounds failed
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static boolean playTournament( Tournament a_tournament, SimulationStats a_stats ){
+        do{
+            if( !playRound( a_tournament.getCurrentRound(), a_stats ) )
+                return false;
+        } while( a_tournament.startNewRound() );
+
+        int leftScore = a_tournament.gethumanPlayer().getScore();
+        int rightScore = a_tournament.getComputerPlayer().getScore();
+
+        int winnerIndex = UserInput.INVALID_OPTION;
+        if( leftScore > rightScore )
+            winnerIndex = Side.LEFT_INDEX;
+        else if( rightScore > leftScore )
+            winnerIndex = Side.RIGHT_INDEX;
+
+        a_stats.recordTournament( winnerIndex );
+        return true;
+    }
+
+    // Usage: Simulator [number of rounds] [game record file or -] [seed]
+    public static void main( String [] args ) throws IOException {
+        long rounds = DEFAULT_ROUNDS;
+        if( args.length > 0 )
+            rounds = Long.parseLong( args[0] );
+
+        SplittableRandom random = args.length > 2? new SplittableRandom( Long.parseLong(args[2]) ): new SplittableRandom();
+        Computer left = new Computer( Player.LEFT );
+        Computer right = new Computer( Player.RIGHT );
+        left.setEndgameNodeBudget( ENDGAME_NODE_BUDGET );
+        right.setEndgameNodeBudget( ENDGAME_NODE_BUDGET );
+
+        Simulator simulator = new Simulator( left, right, random );
+        GameRecordWriter recordWriter = args.length > 1 && !args[1].equals( "-" )? new GameRecordWriter( args[1] ): null;
+        simulator.setRecordWriter( recordWriter );
+
+        SimulationStats stats = simulator.simulate( rounds );
+        if( recordWriter != null )
+            recordWriter.close();
+
+        System.out.print( stats );
+    }
+}
@@ -2,7 +2,7 @@ package edu.ramapo.aghimir1.cubaminoes;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.SplittableRandom;
 
 public class Stock implements Serializable {
     private static int MAX_TILES = 28;
@@ -12,20 +12,45 @@ public class Stock implements Serializable {
     ********************************************* */
     private ArrayList<Tile> m_tiles;
     private int m_nextTile;
+    private long m_tileMask; // The tiles yet to be distributed, as a TileSet
 
     /* *********************************************
     Constructors
     ********************************************* */
     Stock(){
+        this( new SplittableRandom() );
+    }
+
+    /**
+     Create all the tiles and shuffle them with a random number generator owned by the caller, so
+     a seeded generator deals the same stock every time
+     @param a_random the generator. It is only used by the constructor
+     */
+    Stock( SplittableRandom a_random ){
         m_tiles = new ArrayList<>();
         createNewStock();
-        shuffle();
+        shuffle( a_random );
         m_nextTile = 0;
+        m_tileMask = TileSet.ALL;
     }
 
     public Stock(ArrayList<Tile> a_tiles){
         m_tiles = (ArrayList)a_tiles.clone();
         m_nextTile = 0;
+        m_tileMask = TileSet.EMPTY;
+        for(Tile i: m_tiles)
+            m_tileMask = TileSet.add( m_tileMask, TileSet.idOf(i) );
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public long getTileMask(){
+        return m_tileMask;
+    }
+
+    public int size(){
+        return m_tiles.size() - m_nextTile;
     }
 
     /**/
@@ -60,7 +85,7 @@ public class Stock implements Serializable {
     private void createNewStock(){
         for(int left = 0; left <= Tile.MAX_VALUE_OF_A_STONE; left++ ){
             for(int right = left; right <= Tile.MAX_VALUE_OF_A_STONE; right++){
-                Tile tile = new Tile(left, right);
+                Tile tile = Tile.valueOf(left, right);
                 m_tiles.add(tile);
             }
         }
@@ -76,11 +101,14 @@ public class Stock implements Serializable {
 
     SYNOPSIS
 
-        private void shuffle()
+        private void shuffle( SplittableRandom a_random )
+            a_random - the random number generator to shuffle with
 
     DESCRIPTION
 
-        Shuffle all the tiles in m_tiles
+        Shuffle all the tiles in m_tiles with a Fisher-Yates shuffle. Collections.shuffle would
+        use the Random shared by the whole process, so runs could not be repeated and threads
+        dealing at the same time would all wait on one generator
 
     RETURNS
 
@@ -95,8 +123,13 @@ public class Stock implements Serializable {
         4/20/2019
 
     */
-    private void shuffle(){
-        Collections.shuffle(m_tiles);
+    private void shuffle( SplittableRandom a_random ){
+        for(int i = m_tiles.size() - 1; i > 0; i--){
+            int j = a_random.nextInt( i + 1 );
+            Tile tile = m_tiles.get(i);
+            m_tiles.set( i, m_tiles.get(j) );
+            m_tiles.set( j, tile );
+        }
     }
 
     /**/
@@ -130,7 +163,9 @@ public class Stock implements Serializable {
 
     */
     public Tile getNextTile(){
-        return m_tiles.get(m_nextTile++);
+        Tile tile = m_tiles.get(m_nextTile++);
+        m_tileMask = TileSet.remove( m_tileMask, TileSet.idOf(tile) );
+        return tile;
     }
 
     /**/
@@ -205,6 +240,20 @@ public class Stock implements Serializable {
         return tiles;
     }
 
+    /**
+     Copy the TileSet ids of the tiles yet to be distributed, in the order they will be drawn
+     @param a_ids array with room for every tile in the stock
+     @return the number of ids written to a_ids
+     */
+    public int getTileIds( int [] a_ids ){
+        int count = 0;
+
+        for(int i = m_nextTile; i < m_tiles.size(); i++)
+            a_ids[count++] = m_tiles.get(i).getId();
+
+        return count;
+    }
+
     public static void main( String [] args ) {
 
     }
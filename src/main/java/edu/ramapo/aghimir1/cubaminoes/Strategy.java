@@ -0,0 +1,16 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ A way of choosing a move that is kept apart from the Player playing it. A strategy keeps no state
+ between calls, so one strategy object can be shared by every player and thread of a simulation,
+ swapped for another in the middle of a round, and benchmarked on positions alone
+ */
+public interface Strategy {
+
+    /**
+     Choose the move of the player to move
+     @param a_position what the player to move can see of the round
+     @return a legal move encoded as in Move: a placement, Move.DRAW or Move.PASS
+     */
+    int chooseMove( Position a_position );
+}
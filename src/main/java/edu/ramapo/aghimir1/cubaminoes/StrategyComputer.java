@@ -0,0 +1,94 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.Serializable;
+
+/**
+ A computer player that asks a Strategy for every move instead of working it out itself. The
+ player only keeps the hand and the turn; the strategy can be changed at any time, and the endgame
+ solver of Computer is not used, so the strategy alone decides how the player plays.
+ */
+public class StrategyComputer extends Computer implements Serializable {
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    // Strategies aren't serialized. A player read back from a save plays GreedyStrategy
+    private transient Strategy m_strategy;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    StrategyComputer( String a_side ){
+        this( a_side, GreedyStrategy.INSTANCE );
+    }
+
+    StrategyComputer( String a_side, Strategy a_strategy ){
+        super( a_side );
+        m_strategy = a_strategy;
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public Strategy getStrategy(){
+        if( m_strategy == null )
+            m_strategy = GreedyStrategy.INSTANCE;
+
+        return m_strategy;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+    // Takes effect from the player's next move
+    public void setStrategy( Strategy a_strategy ){
+        m_strategy = a_strategy;
+    }
+
+    /**/
+    /*
+    getMoveOption
+
+    NAME
+
+        getMoveOption - Get the move option of the move the strategy chooses
+
+    SYNOPSIS
+
+        public int getMoveOption( Table a_table, String a_playersSide, boolean a_opponentPassed, boolean a_stockEmpty )
+            a_table - reference to the game table
+            a_playersSide - a String denoting a player's side
+            a_opponentPassed - This variable tells if the opponent player passed in his previous turn
+            a_stockEmpty - This variable tells if the round stock is empty
+
+    DESCRIPTION
+
+        Give the strategy the position the player sees. A placement it chooses is kept for
+        selectTile and selectSide
+
+    RETURNS
+
+        UserInput.PLACE_TILE, UserInput.PASS or UserInput.DRAW_TILE
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public int getMoveOption( Table a_table, String a_playersSide, boolean a_opponentPassed, boolean a_stockEmpty ){
+        int move = getStrategy().chooseMove( new Position( this, a_table, a_opponentPassed, a_stockEmpty ) );
+
+        m_plannedMove = Move.NONE;
+        if( Move.isDraw(move) )
+            return UserInput.DRAW_TILE;
+        if( Move.isPass(move) )
+            return UserInput.PASS;
+
+        m_plannedMove = move;
+        return UserInput.PLACE_TILE;
+    }
+}
@@ -8,6 +8,7 @@ public class Table implements Serializable {
     ********************************************* */
     Side m_leftSide;
     Side m_rightSide;
+    Tile m_engine; // null until the engine is placed on the table
 
     /* *********************************************
     Constructors
@@ -33,6 +34,23 @@ public class Table implements Serializable {
         return m_rightSide;
     }
 
+    Tile getEngine(){
+        return m_engine;
+    }
+
+    /**
+     A selector that returns every tile on the table, including the engine once it is placed
+     @return a TileSet of the tiles on the table
+     */
+    public long getPlacedMask(){
+        long placed = m_leftSide.getTileMask() | m_rightSide.getTileMask();
+
+        if( m_engine != null )
+            placed = TileSet.add( placed, m_engine.getId() );
+
+        return placed;
+    }
+
 
     /* *********************************************
     Mutators
@@ -45,6 +63,10 @@ public class Table implements Serializable {
         m_rightSide.setOpenStone(val);
     }
 
+    public void setEngine( Tile a_engine ){
+        m_engine = a_engine;
+    }
+
     /**/
     /*
     addToSide
@@ -1,34 +1,79 @@
 package edu.ramapo.aghimir1.cubaminoes;
 
 import java.io.Serializable;
-import java.util.Objects;
 
-public class Tile implements Serializable {
+/**
+ A tile with its stones in a given order. Tiles are immutable and interned: there is exactly one
+ Tile object for each of the 49 (left stone, right stone) pairs, plus one for an undefined tile.
+ Get them through valueOf or fromId. The order of the stones is part of the tile, so 3-6 and 6-3
+ are two different objects with the same id
+ */
+public final class Tile implements Serializable {
 
     /* *********************************************
     Symbolic constants
     ********************************************* */
-    public static int MAX_VALUE_OF_A_STONE = 6;
+    public static final int MAX_VALUE_OF_A_STONE = 6;
     public final static int UNDEFINED_STONE = 5000;
 
+    private static final int NUM_STONES = MAX_VALUE_OF_A_STONE + 1;
+    public static final int NUM_ORIENTED_TILES = NUM_STONES * NUM_STONES;
+
+    /* *********************************************
+    The registry of all tiles, created once when the class is loaded
+    ********************************************* */
+    private static final Tile [] ORIENTED_TILES = new Tile[NUM_ORIENTED_TILES];
+    private static final Tile UNDEFINED_TILE = new Tile(UNDEFINED_STONE, UNDEFINED_STONE);
+
+    static {
+        for(int left = 0; left < NUM_STONES; left++){
+            for(int right = 0; right < NUM_STONES; right++)
+                ORIENTED_TILES[left * NUM_STONES + right] = new Tile(left, right);
+        }
+    }
+
     /* *********************************************
     Class member variables
     ********************************************* */
-    private int m_leftStone;
-    private int m_rightStone;
+    private final int m_leftStone;
+    private final int m_rightStone;
 
     /* *********************************************
     Constructor
     ********************************************* */
-    Tile( int left, int right ){
-        if( (left >= 0 && left <= 6) && (right >= 0 && right <=6 ) ) {
-            m_leftStone = left;
-            m_rightStone = right;
-        }
-        else{
-            m_leftStone = UNDEFINED_STONE;
-            m_rightStone = UNDEFINED_STONE;
-        }
+    private Tile( int left, int right ){
+        m_leftStone = left;
+        m_rightStone = right;
+    }
+
+    /**
+     Get the tile with the given stones in the given order
+     @return the interned tile, or an undefined tile whose stones are UNDEFINED_STONE if one of the
+     stones is not between 0 and 6
+     */
+    public static Tile valueOf( int left, int right ){
+        if( (left >= 0 && left <= MAX_VALUE_OF_A_STONE) && (right >= 0 && right <= MAX_VALUE_OF_A_STONE) )
+            return ORIENTED_TILES[left * NUM_STONES + right];
+
+        return UNDEFINED_TILE;
+    }
+
+    /**
+     Get a tile from its TileSet id, with the lower stone on the left
+     @param a_id an id between 0 and TileSet.NUM_TILES - 1
+     */
+    public static Tile fromId( int a_id ){
+        return valueOf( TileSet.getLowStone(a_id), TileSet.getHighStone(a_id) );
+    }
+
+    /**
+     Get a tile from its oriented id (see getOrientedId)
+     */
+    public static Tile fromOrientedId( int a_orientedId ){
+        if( a_orientedId < 0 || a_orientedId >= NUM_ORIENTED_TILES )
+            return UNDEFINED_TILE;
+
+        return ORIENTED_TILES[a_orientedId];
     }
 
     /* *********************************************
@@ -48,6 +93,25 @@ public class Tile implements Serializable {
         return m_leftStone + m_rightStone;
     }
 
+    /**
+     Get the TileSet id of the tile, which does not depend on the order of the stones
+     @return the id, or TileSet.INVALID_ID for an undefined tile
+     */
+    public int getId(){
+        return TileSet.idOf( m_leftStone, m_rightStone );
+    }
+
+    /**
+     Get a number that identifies both the tile and the order of its stones
+     @return left stone * 7 + right stone, or a negative number for an undefined tile
+     */
+    public int getOrientedId(){
+        if( this == UNDEFINED_TILE )
+            return TileSet.INVALID_ID;
+
+        return m_leftStone * NUM_STONES + m_rightStone;
+    }
+
     /**/
     /*
     isDoubleTile
@@ -86,23 +150,24 @@ public class Tile implements Serializable {
 
     /**/
     /*
-    swapStone
+    flipped
 
     NAME
 
-        swapStone - Swap the values of left and right stones of a tile
+        flipped - Get the tile with the left and right stones of this tile swapped
 
     SYNOPSIS
 
-        public void swapStone()
+        public Tile flipped()
 
     DESCRIPTION
 
-        Swap the values of left and right stones
+        Tiles are immutable, so instead of swapping the stones of this tile, return the interned
+        tile whose left stone is this tile's right stone and vice versa
 
     RETURNS
 
-        None
+        The flipped tile. For a double tile, the tile itself
 
     AUTHOR
 
@@ -113,10 +178,8 @@ public class Tile implements Serializable {
         4/23/2019
 
     */
-    public void swapStone(){
-        int temp = m_leftStone;
-        m_leftStone = m_rightStone;
-        m_rightStone = temp;
+    public Tile flipped(){
+        return valueOf( m_rightStone, m_leftStone );
     }
 
     /**/
@@ -179,6 +242,16 @@ public class Tile implements Serializable {
                 m_rightStone == tile.m_rightStone;
     }
 
+    @Override
+    public int hashCode() {
+        return m_leftStone * NUM_STONES + m_rightStone;
+    }
+
+    // Keep tiles interned when a Tile is deserialized
+    private Object readResolve() {
+        return valueOf( m_leftStone, m_rightStone );
+    }
+
     public static void main( String [] args ){
 
     }
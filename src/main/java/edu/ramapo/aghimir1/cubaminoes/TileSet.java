@@ -0,0 +1,235 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+/**
+ A set of tiles of the double-six set stored in the bits of a single long. Bit i stands for the
+ tile with id i, where ids follow the order in which Stock.createNewStock creates the tiles:
+ 0-0 is 0, 0-1 is 1, ..., 0-6 is 6, 1-1 is 7, ..., 6-6 is 27. A tile's id does not depend on the
+ order of its stones, so 3-6 and 6-3 have the same id.
+
+ The class only has static functions working on long values, so that a hand, a stock or the tiles
+ on a side of the table cost one long and every query is a few bit operations.
+ */
+public final class TileSet {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final int NUM_TILES = 28;
+    public static final int NUM_PIPS = Tile.MAX_VALUE_OF_A_STONE + 1;
+    public static final int INVALID_ID = -1;
+
+    public static final long EMPTY = 0L;
+    public static final long ALL = (1L << NUM_TILES) - 1;
+
+    /* *********************************************
+    Lookup tables, filled once when the class is loaded
+    ********************************************* */
+    private static final int [] ID_OF_STONES = new int[NUM_PIPS * NUM_PIPS];
+    private static final int [] LOW_STONE = new int[NUM_TILES];
+    private static final int [] HIGH_STONE = new int[NUM_TILES];
+    private static final long [] PIP_MASK = new long[NUM_PIPS];
+    private static final long DOUBLES;
+
+    static {
+        long doubles = EMPTY;
+        int id = 0;
+
+        for(int left = 0; left < NUM_PIPS; left++){
+            for(int right = left; right < NUM_PIPS; right++){
+                ID_OF_STONES[left * NUM_PIPS + right] = id;
+                ID_OF_STONES[right * NUM_PIPS + left] = id;
+                LOW_STONE[id] = left;
+                HIGH_STONE[id] = right;
+                PIP_MASK[left] |= 1L << id;
+                PIP_MASK[right] |= 1L << id;
+
+                if( left == right )
+                    doubles |= 1L << id;
+
+                id++;
+            }
+        }
+
+        DOUBLES = doubles;
+    }
+
+    private TileSet(){
+    }
+
+    /* *********************************************
+    Tile ids
+    ********************************************* */
+
+    /**
+     Get the id of the tile with the given stones, in any order
+     @return the id of the tile, or INVALID_ID if one of the stones isn't between 0 and 6
+     */
+    public static int idOf( int a_leftStone, int a_rightStone ){
+        if( a_leftStone < 0 || a_leftStone >= NUM_PIPS || a_rightStone < 0 || a_rightStone >= NUM_PIPS )
+            return INVALID_ID;
+
+        return ID_OF_STONES[a_leftStone * NUM_PIPS + a_rightStone];
+    }
+
+    public static int idOf( Tile a_tile ){
+        return idOf( a_tile.getLeftStone(), a_tile.getRightStone() );
+    }
+
+    public static int getLowStone( int a_id ){
+        return LOW_STONE[a_id];
+    }
+
+    public static int getHighStone( int a_id ){
+        return HIGH_STONE[a_id];
+    }
+
+    public static int getNumericValue( int a_id ){
+        return LOW_STONE[a_id] + HIGH_STONE[a_id];
+    }
+
+    public static boolean isDouble( int a_id ){
+        return LOW_STONE[a_id] == HIGH_STONE[a_id];
+    }
+
+    /**
+     Get the id of the double tile with the given stone
+     @return the id of the double, or INVALID_ID if the stone isn't between 0 and 6
+     */
+    public static int doubleOf( int a_stone ){
+        return idOf( a_stone, a_stone );
+    }
+
+    /**
+     Get the stone at the other end of a tile
+     @param a_id id of a tile that has a_stone on one of its ends
+     @param a_stone the stone at one end of the tile
+     @return the stone at the other end of the tile
+     */
+    public static int otherStone( int a_id, int a_stone ){
+        return LOW_STONE[a_id] == a_stone? HIGH_STONE[a_id]: LOW_STONE[a_id];
+    }
+
+    /* *********************************************
+    Masks
+    ********************************************* */
+    public static long bit( int a_id ){
+        return 1L << a_id;
+    }
+
+    /**
+     Get the set of all tiles that have a_stone on at least one end
+     @return the set of tiles, or EMPTY if the stone isn't between 0 and 6 (for instance, when the
+     open stone of a side is still Tile.UNDEFINED_STONE)
+     */
+    public static long pipMask( int a_stone ){
+        if( a_stone < 0 || a_stone >= NUM_PIPS )
+            return EMPTY;
+
+        return PIP_MASK[a_stone];
+    }
+
+    public static long doublesMask(){
+        return DOUBLES;
+    }
+
+    /* *********************************************
+    Set operations
+    ********************************************* */
+    public static boolean contains( long a_set, int a_id ){
+        return a_id >= 0 && (a_set & (1L << a_id)) != 0;
+    }
+
+    public static long add( long a_set, int a_id ){
+        return a_set | (1L << a_id);
+    }
+
+    public static long remove( long a_set, int a_id ){
+        return a_set & ~(1L << a_id);
+    }
+
+    public static int size( long a_set ){
+        return Long.bitCount( a_set );
+    }
+
+    public static boolean isEmpty( long a_set ){
+        return a_set == EMPTY;
+    }
+
+    /**
+     Get the tiles of a set that have a_stone on at least one end
+     */
+    public static long matching( long a_set, int a_stone ){
+        return a_set & pipMask( a_stone );
+    }
+
+    public static boolean hasDouble( long a_set, int a_stone ){
+        return (a_set & DOUBLES & pipMask( a_stone )) != 0;
+    }
+
+    /**/
+    /*
+    getTotalValue
+
+    NAME
+
+        getTotalValue - Get the sum of numeric value of all tiles in a set
+
+    SYNOPSIS
+
+        public static int getTotalValue( long a_set )
+            a_set - the set of tiles
+
+    DESCRIPTION
+
+        Every tile with a stone p adds p to the sum, and a double adds it twice. So the sum is
+        the sum over all stones p of p times (number of tiles with p + number of doubles with p),
+        which takes two bit counts per stone instead of a loop over the tiles
+
+    RETURNS
+
+        an integer value denoting the sum of numeric values of all tiles in the set
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static int getTotalValue( long a_set ){
+        int sum = 0;
+
+        for(int stone = 1; stone < NUM_PIPS; stone++){
+            long withStone = a_set & PIP_MASK[stone];
+            sum += stone * ( Long.bitCount(withStone) + Long.bitCount(withStone & DOUBLES) );
+        }
+
+        return sum;
+    }
+
+    /**
+     Get the id of the lowest numbered tile in a set
+     @return the id of the tile, or INVALID_ID if the set is empty
+     */
+    public static int first( long a_set ){
+        if( a_set == EMPTY )
+            return INVALID_ID;
+
+        return Long.numberOfTrailingZeros( a_set );
+    }
+
+    public static String toString( long a_set ){
+        final StringBuilder sb = new StringBuilder("");
+
+        for(long rest = a_set; rest != EMPTY; rest &= rest - 1){
+            int id = Long.numberOfTrailingZeros( rest );
+            if( sb.length() > 0 )
+                sb.append(" ");
+            sb.append(LOW_STONE[id]).append("-").append(HIGH_STONE[id]);
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import java.io.IOException;
+
+/**
+ Carries a tournament from one activity to another as a TournamentSnapshot, instead of serializing
+ the whole Tournament object graph. The parcel holds a single byte array of a few dozen bytes, and
+ the tournament is rebuilt from it with TournamentSnapshot.read.
+ */
+public class TournamentParcel implements Parcelable {
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final byte [] m_snapshot;
+
+    public static final Parcelable.Creator<TournamentParcel> CREATOR = new Parcelable.Creator<TournamentParcel>() {
+        @Override
+        public TournamentParcel createFromParcel( Parcel a_source ){
+            return new TournamentParcel( a_source.createByteArray() );
+        }
+
+        @Override
+        public TournamentParcel[] newArray( int a_size ){
+            return new TournamentParcel[a_size];
+        }
+    };
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    public TournamentParcel( Tournament a_tournament ){
+        m_snapshot = TournamentSnapshot.write( a_tournament );
+    }
+
+    private TournamentParcel( byte [] a_snapshot ){
+        m_snapshot = a_snapshot;
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+
+    /**
+     Rebuild the tournament carried by the parcel. Every call returns a new Tournament
+     @return the tournament as it was when the parcel was made
+     */
+    public Tournament getTournament(){
+        try{
+            return TournamentSnapshot.read( m_snapshot );
+        }
+        catch( IOException e ){
+            // The bytes were written by TournamentSnapshot.write in this same app
+            throw new IllegalStateException( "Corrupt tournament parcel", e );
+        }
+    }
+
+    /* *********************************************
+    Parcelable
+    ********************************************* */
+    @Override
+    public int describeContents(){
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel( Parcel a_dest, int a_flags ){
+        a_dest.writeByteArray( m_snapshot );
+    }
+}
@@ -0,0 +1,336 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+/**
+ A compact binary save of a tournament and its current round. It holds the same information as the
+ text file written by Round.saveGame, plus the computer strategy and the pass flags of both players,
+ in about fifty bytes:
+
+   magic "CB", version                      3 bytes
+   tournament max score, round number       2 shorts
+   human and computer tournament scores     2 shorts
+   computer strategy                        1 byte
+   engine id, or NO_TILE if not placed      1 byte
+   flags                                    1 byte   COMPUTER_TO_MOVE, HUMAN_PASSED, COMPUTER_PASSED
+   tiles drawn by the player to move        1 byte
+   human and computer hands                 2 ints   TileSets
+   left and right open stones               2 bytes  NO_STONE if undefined
+   left side, right side                    count + oriented id per tile, in the order placed
+   stock                                    count + id per tile, in the order they will be drawn
+
+ A hand is a TileSet, so a reloaded hand is sorted by tile id. The stock keeps its order, because
+ the order decides which tile is drawn next.
+ */
+public final class TournamentSnapshot {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final String FILE_EXTENSION = ".cub";
+
+    private static final byte MAGIC_0 = 'C';
+    private static final byte MAGIC_1 = 'B';
+    private static final byte VERSION = 1;
+
+    private static final int NO_TILE = 0xFF;
+    private static final int NO_STONE = 0xFF;
+
+    private static final int COMPUTER_TO_MOVE = 1;
+    private static final int HUMAN_PASSED = 1 << 1;
+    private static final int COMPUTER_PASSED = 1 << 2;
+
+    // Every field but the tiles of the sides and the stock, which take at most a byte per tile
+    private static final int FIXED_SIZE = 28;
+    private static final int MAX_SIZE = FIXED_SIZE + TileSet.NUM_TILES;
+
+    private TournamentSnapshot(){
+    }
+
+    /**/
+    /*
+    write
+
+    NAME
+
+        write - Encode a tournament and its current round
+
+    SYNOPSIS
+
+        public static byte [] write( Tournament a_tournament )
+            a_tournament - the tournament to encode
+
+    DESCRIPTION
+
+        Write every field of the layout above into one buffer. Tiles are written as ids, so
+        nothing is formatted or allocated per tile
+
+    RETURNS
+
+        The encoded snapshot
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static byte [] write( Tournament a_tournament ){
+        Round round = a_tournament.getCurrentRound();
+        Player human = round.getHuman();
+        Player computer = round.getComputer();
+        Table table = round.getTable();
+        Tile engine = table.getEngine();
+
+        ByteBuffer buffer = ByteBuffer.allocate( MAX_SIZE );
+        buffer.put( MAGIC_0 ).put( MAGIC_1 ).put( VERSION );
+        buffer.putShort( (short) a_tournament.getTournamentScore() );
+        buffer.putShort( (short) round.getRoundCount() );
+        buffer.putShort( (short) a_tournament.gethumanPlayer().getScore() );
+        buffer.putShort( (short) a_tournament.getComputerPlayer().getScore() );
+        buffer.put( (byte) a_tournament.getComputerStrategy() );
+        buffer.put( (byte) (engine == null? NO_TILE: engine.getId()) );
+
+        Player whoIsPlaying = round.getWhoIsPlaying();
+        int flags = 0;
+        if( whoIsPlaying == computer )
+            flags |= COMPUTER_TO_MOVE;
+        if( human.hasPassed() )
+            flags |= HUMAN_PASSED;
+        if( computer.hasPassed() )
+            flags |= COMPUTER_PASSED;
+        buffer.put( (byte) flags );
+        buffer.put( (byte) whoIsPlaying.getTileDrawn() );
+
+        // TileSet.ALL has 28 bits, so a hand fits in an int
+        buffer.putInt( (int) human.getHandMask() );
+        buffer.putInt( (int) computer.getHandMask() );
+
+        writeSide( buffer, table.getLeftSide() );
+        writeSide( buffer, table.getRightSide() );
+
+        int [] stockIds = new int[TileSet.NUM_TILES];
+        int stockSize = round.getStock().getTileIds( stockIds );
+        buffer.put( (byte) stockSize );
+        for(int i = 0; i < stockSize; i++)
+            buffer.put( (byte) stockIds[i] );
+
+        byte [] bytes = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get( bytes );
+        return bytes;
+    }
+
+    // Write the open stone of a side, then its tiles as oriented ids
+    private static void writeSide( ByteBuffer a_buffer, Side a_side ){
+        int openStone = a_side.getOpenStone();
+        a_buffer.put( (byte) (openStone == Tile.UNDEFINED_STONE? NO_STONE: openStone) );
+
+        ArrayList<Tile> tiles = a_side.getAllTiles();
+        a_buffer.put( (byte) tiles.size() );
+        for(Tile i: tiles)
+            a_buffer.put( (byte) i.getOrientedId() );
+    }
+
+    /**/
+    /*
+    read
+
+    NAME
+
+        read - Decode a tournament written by write
+
+    SYNOPSIS
+
+        public static Tournament read( byte [] a_bytes )
+            a_bytes - an encoded snapshot
+
+    DESCRIPTION
+
+        Rebuild the players, the table, the stock and the round, and check that every tile of the
+        set is in exactly one place: a hand, a side of the table, the stock or the engine
+
+    RETURNS
+
+        The tournament, with its current round ready to continue
+
+    AUTHOR
+
+        Ashish Ghimire
+
+    DATE
+
+        10/17/2026
+
+    */
+    public static Tournament read( byte [] a_bytes ) throws IOException {
+        try{
+            return decode( ByteBuffer.wrap( a_bytes ) );
+        }
+        catch( BufferUnderflowException e ){
+            throw new IOException( "Snapshot is truncated" );
+        }
+    }
+
+    private static Tournament decode( ByteBuffer a_buffer ) throws IOException {
+        if( a_buffer.get() != MAGIC_0 || a_buffer.get() != MAGIC_1 )
+            throw new IOException( "Not a tournament snapshot" );
+        int version = a_buffer.get();
+        if( version != VERSION )
+            throw new IOException( "Unsupported snapshot version " + version );
+
+        int tournamentMaxScore = a_buffer.getShort();
+        int roundNumber = a_buffer.getShort();
+        int humanScore = a_buffer.getShort();
+        int computerScore = a_buffer.getShort();
+        int computerStrategy = a_buffer.get();
+        int engineId = a_buffer.get() & 0xFF;
+        int flags = a_buffer.get();
+        int tileDrawn = a_buffer.get();
+        long humanHand = a_buffer.getInt() & 0xFFFFFFFFL;
+        long computerHand = a_buffer.getInt() & 0xFFFFFFFFL;
+
+        Side leftSide = readSide( a_buffer, Player.LEFT );
+        Side rightSide = readSide( a_buffer, Player.RIGHT );
+
+        ArrayList<Tile> stockTiles = new ArrayList<>();
+        long stockMask = TileSet.EMPTY;
+        int stockSize = a_buffer.get();
+        for(int i = 0; i < stockSize; i++){
+            int id = readTileId( a_buffer.get() );
+            stockMask = TileSet.add( stockMask, id );
+            stockTiles.add( Tile.fromId( id ) );
+        }
+
+        // Every tile must be in exactly one place
+        long [] parts = { humanHand, computerHand, leftSide.getTileMask(), rightSide.getTileMask(), stockMask,
+                engineId == NO_TILE? TileSet.EMPTY: TileSet.bit( readTileId( engineId ) ) };
+        long seen = TileSet.EMPTY;
+        int seenCount = 0;
+        for(long i: parts){
+            seen |= i;
+            seenCount += TileSet.size( i );
+        }
+        if( seen != TileSet.ALL || seenCount != TileSet.NUM_TILES )
+            throw new IOException( "Snapshot does not hold every tile exactly once" );
+
+        Human humanPlayer = new Human();
+        Computer computerPlayer = Computer.create( computerStrategy );
+        addToHand( humanPlayer, humanHand );
+        addToHand( computerPlayer, computerHand );
+        humanPlayer.setPass( (flags & HUMAN_PASSED) != 0 );
+        computerPlayer.setPass( (flags & COMPUTER_PASSED) != 0 );
+
+        boolean computerToMove = (flags & COMPUTER_TO_MOVE) != 0;
+        Player whoIsPlaying = computerToMove? computerPlayer: humanPlayer;
+        for(int i = 0; i < tileDrawn; i++)
+            whoIsPlaying.incrementTileDrawn();
+
+        Tile engine = null;
+        Table table = new Table();
+        if( engineId != NO_TILE ){
+            engine = Tile.fromId( engineId );
+            table = new Table( leftSide, rightSide );
+            table.setEngine( engine );
+        }
+
+        Round round = new Round( roundNumber, engine, humanPlayer, computerPlayer, new Stock( stockTiles ),
+                table, whoIsPlaying.getPlayerString(), humanScore, computerScore );
+
+        return new Tournament( tournamentMaxScore, computerStrategy, humanScore, computerScore, round );
+    }
+
+    private static Side readSide( ByteBuffer a_buffer, String a_sideString ) throws IOException {
+        Side side = new Side( a_sideString );
+
+        int openStone = a_buffer.get() & 0xFF;
+        if( openStone != NO_STONE ){
+            if( openStone >= TileSet.NUM_PIPS )
+                throw new IOException( "Invalid open stone " + openStone );
+            side.setOpenStone( openStone );
+        }
+
+        ArrayList<Tile> tiles = new ArrayList<>();
+        int count = a_buffer.get();
+        for(int i = 0; i < count; i++){
+            Tile tile = Tile.fromOrientedId( a_buffer.get() );
+            if( tile.getId() == TileSet.INVALID_ID )
+                throw new IOException( "Invalid tile on the " + a_sideString + " side" );
+            tiles.add( tile );
+        }
+        side.setTile( tiles );
+
+        return side;
+    }
+
+    private static int readTileId( int a_id ) throws IOException {
+        if( a_id < 0 || a_id >= TileSet.NUM_TILES )
+            throw new IOException( "Invalid tile id " + a_id );
+
+        return a_id;
+    }
+
+    private static void addToHand( Player a_player, long a_hand ){
+        for(long rest = a_hand; rest != TileSet.EMPTY; rest &= rest - 1)
+            a_player.addToHand( Tile.fromId( Long.numberOfTrailingZeros(rest) ) );
+    }
+
+    /* *********************************************
+    Files
+    ********************************************* */
+
+    /**
+     Write a snapshot of a tournament to a file, replacing the file if it exists
+     @param a_fileName absolute path of the file
+     */
+    public static void save( Tournament a_tournament, String a_fileName ) throws IOException {
+        byte [] bytes = write( a_tournament );
+
+        FileOutputStream out = new FileOutputStream( a_fileName );
+        try{
+            out.write( bytes );
+        }
+        finally{
+            out.close();
+        }
+    }
+
+    /**
+     Read a tournament from a file written by save
+     @param a_fileName absolute path of the file
+     @return the tournament
+     */
+    public static Tournament load( String a_fileName ) throws IOException {
+        File file = new File( a_fileName );
+        if( file.length() > MAX_SIZE )
+            throw new IOException( "Not a tournament snapshot" );
+
+        byte [] bytes = new byte[(int) file.length()];
+        DataInputStream in = new DataInputStream( new FileInputStream( file ) );
+        try{
+            in.readFully( bytes );
+        }
+        finally{
+            in.close();
+        }
+
+        return read( bytes );
+    }
+
+    /**
+     @return true if a file name has the extension of a snapshot
+     */
+    public static boolean isSnapshotFile( String a_fileName ){
+        return a_fileName.endsWith( FILE_EXTENSION );
+    }
+}
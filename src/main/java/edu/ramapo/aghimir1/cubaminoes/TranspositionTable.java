@@ -0,0 +1,117 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.Arrays;
+
+/**
+ A fixed-size table of search results keyed by Zobrist hash. Each slot holds two longs: the entry's
+ data, and the hash XORed with the data. A reader accepts a slot only if the two XOR back to the
+ hash it looks for, so an entry half written by another thread is simply a miss. No slot is ever
+ locked, and a new entry always replaces the old one in its slot.
+
+ An entry's data packs the score of the position for the player to move, whether the score is
+ exact or only a bound, and the best move found:
+
+   bits 0-31   score
+   bits 32-39  best move + 1, or 0 if there is none
+   bits 40-41  EXACT, LOWER_BOUND or UPPER_BOUND
+   bit 62      set in every entry, so that an empty slot never looks like one
+ */
+public class TranspositionTable {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    // Returned by probe when the table has no entry for a hash
+    public static final long MISS = 0L;
+
+    public static final int DEFAULT_SIZE_BITS = 16;
+
+    private static final int MOVE_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final long VALID_BIT = 1L << 62;
+
+    /* *********************************************
+    Class member variables
+    ********************************************* */
+    private final long [] m_slots;  // Slot i is m_slots[2i] (hash ^ data) and m_slots[2i + 1] (data)
+    private final int m_mask;
+
+    /* *********************************************
+    Constructors
+    ********************************************* */
+    TranspositionTable(){
+        this( DEFAULT_SIZE_BITS );
+    }
+
+    // The table has 2^a_sizeBits slots of 16 bytes each
+    TranspositionTable( int a_sizeBits ){
+        m_slots = new long[2 << a_sizeBits];
+        m_mask = (1 << a_sizeBits) - 1;
+    }
+
+    /* *********************************************
+    Selectors
+    ********************************************* */
+    public int getSize(){
+        return m_mask + 1;
+    }
+
+    /**
+     Look up the entry of a position
+     @param a_hash Zobrist hash of the position
+     @return the entry's data, or MISS if the table has no entry for a_hash
+     */
+    public long probe( long a_hash ){
+        int index = ((int) a_hash & m_mask) << 1;
+        long data = m_slots[index + 1];
+
+        if( (m_slots[index] ^ data) != a_hash || (data & VALID_BIT) == 0 )
+            return MISS;
+
+        return data;
+    }
+
+    public static int getScore( long a_data ){
+        return (int) a_data;
+    }
+
+    public static int getBound( long a_data ){
+        return (int) (a_data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    /**
+     Get the best move of an entry
+     @return the move, or Move.NONE if the entry has none
+     */
+    public static int getBestMove( long a_data ){
+        return (int) (a_data >>> MOVE_SHIFT & 0xFF) - 1;
+    }
+
+    /* *********************************************
+    Mutators
+    ********************************************* */
+
+    /**
+     Store the result of searching a position, replacing whatever its slot holds
+     @param a_hash Zobrist hash of the position
+     @param a_score score of the position for the player to move
+     @param a_bound EXACT, LOWER_BOUND or UPPER_BOUND
+     @param a_bestMove the best move found, or Move.NONE
+     */
+    public void store( long a_hash, int a_score, int a_bound, int a_bestMove ){
+        long data = (a_score & 0xFFFFFFFFL) | ((long) (a_bestMove + 1) << MOVE_SHIFT)
+                | ((long) a_bound << BOUND_SHIFT) | VALID_BIT;
+        int index = ((int) a_hash & m_mask) << 1;
+
+        m_slots[index] = a_hash ^ data;
+        m_slots[index + 1] = data;
+    }
+
+    public void clear(){
+        Arrays.fill( m_slots, 0L );
+    }
+}
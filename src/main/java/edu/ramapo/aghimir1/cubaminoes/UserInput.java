@@ -19,7 +19,6 @@ public class UserInput implements Serializable {
     private int m_tile;
     private String m_side;
     private int m_moveOption;
-    private static int m_tileDrawn = 0;
 
     /* *********************************************
     Constructors
@@ -51,84 +50,10 @@ public class UserInput implements Serializable {
         return m_moveOption;
     }
 
-    public int getTileDrawn(){
-        return m_tileDrawn;
-    }
-
     /* *********************************************
     Mutators
     ********************************************* */
     public void setTile(int a_tile) {
         this.m_tile = a_tile;
     }
-
-
-    /**/
-    /*
-    incrementTileDrawn
-
-    NAME
-
-        incrementTileDrawn - Increment the value of member variable, m_tileDrawn that represents
-        the number of tiles a player has drawn in his turn by 1
-
-    SYNOPSIS
-
-        public void incrementTileDrawn()
-
-    DESCRIPTION
-
-        Increment the value of member variable, m_tileDrawn by 1
-
-    RETURNS
-
-        None
-
-    AUTHOR
-
-        Ashish Ghimire
-
-    DATE
-
-        5/3/2019
-
-    */
-    public void incrementTileDrawn(){
-
-        m_tileDrawn++;
-    }
-
-    /**/
-    /*
-    resetTileDrawn
-
-    NAME
-
-        resetTileDrawn - Re-initialize the value of member variable, m_tileDrawn that represents
-        the number of tiles a player has drawn in his turn
-
-    SYNOPSIS
-
-        public void resetTileDrawn()
-
-    DESCRIPTION
-
-        Set the value of member variable, m_tileDrawn to 0
-
-    RETURNS
-
-        None
-
-    AUTHOR
-
-        Ashish Ghimire
-
-    DATE
-
-        5/3/2019
-
-    */
-    public void resetTileDrawn(){
-        m_tileDrawn = 0;
-    }
 }
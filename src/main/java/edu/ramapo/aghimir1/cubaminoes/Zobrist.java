@@ -0,0 +1,114 @@
+package edu.ramapo.aghimir1.cubaminoes;
+
+import java.util.SplittableRandom;
+
+/**
+ Random 64-bit keys for Zobrist hashing of a round. The hash of a position is the XOR of the keys
+ of everything in it: each tile in each hand, each tile in the stock, the open stone of each side,
+ each pass flag that is set, the player to move and whether he already drew a tile. A move only
+ touches a few of these, so the hash is updated with a few XORs instead of being computed again.
+
+ The keys come from a fixed seed, so the same position has the same hash in every run.
+ */
+public final class Zobrist {
+
+    /* *********************************************
+    Symbolic constants
+    ********************************************* */
+    private static final long SEED = 0x5DEECE66DL;
+
+    // Index of an open stone that is not defined yet, e.g. before the engine is placed
+    private static final int UNDEFINED_STONE_INDEX = TileSet.NUM_PIPS;
+
+    /* *********************************************
+    Keys, filled once when the class is loaded
+    ********************************************* */
+    private static final long [][] HAND = new long[GameState.NUM_PLAYERS][TileSet.NUM_TILES];
+    private static final long [] STOCK = new long[TileSet.NUM_TILES];
+    private static final long [][] OPEN_STONE = new long[GameState.NUM_PLAYERS][TileSet.NUM_PIPS + 1];
+    private static final long [] PASSED = new long[GameState.NUM_PLAYERS];
+    private static final long RIGHT_TO_MOVE;
+    private static final long TILE_DRAWN;
+
+    static {
+        SplittableRandom random = new SplittableRandom( SEED );
+
+        for(int player = 0; player < GameState.NUM_PLAYERS; player++){
+            for(int id = 0; id < TileSet.NUM_TILES; id++)
+                HAND[player][id] = random.nextLong();
+
+            for(int stone = 0; stone <= TileSet.NUM_PIPS; stone++)
+                OPEN_STONE[player][stone] = random.nextLong();
+
+            PASSED[player] = random.nextLong();
+        }
+
+        for(int id = 0; id < TileSet.NUM_TILES; id++)
+            STOCK[id] = random.nextLong();
+
+        RIGHT_TO_MOVE = random.nextLong();
+        TILE_DRAWN = random.nextLong();
+    }
+
+    private Zobrist(){
+    }
+
+    /* *********************************************
+    Keys
+    ********************************************* */
+    public static long hand( int a_player, int a_tileId ){
+        return HAND[a_player][a_tileId];
+    }
+
+    public static long stock( int a_tileId ){
+        return STOCK[a_tileId];
+    }
+
+    public static long openStone( int a_side, int a_stone ){
+        if( a_stone < 0 || a_stone >= TileSet.NUM_PIPS )
+            return OPEN_STONE[a_side][UNDEFINED_STONE_INDEX];
+
+        return OPEN_STONE[a_side][a_stone];
+    }
+
+    public static long passed( int a_player ){
+        return PASSED[a_player];
+    }
+
+    /**
+     Get the key of the player to move. Only Side.RIGHT_INDEX has a key, so switching turns is a
+     single XOR
+     */
+    public static long turn( int a_player ){
+        return a_player == Side.RIGHT_INDEX? RIGHT_TO_MOVE: 0L;
+    }
+
+    public static long tileDrawn( int a_tileDrawn ){
+        return a_tileDrawn > 0? TILE_DRAWN: 0L;
+    }
+
+    public static long switchTurn(){
+        return RIGHT_TO_MOVE;
+    }
+
+    /* *********************************************
+    Hashes of sets of tiles
+    ********************************************* */
+    public static long hashHand( int a_player, long a_hand ){
+        long hash = 0L;
+
+        for(long rest = a_hand; rest != TileSet.EMPTY; rest &= rest - 1)
+            hash ^= HAND[a_player][ Long.numberOfTrailingZeros(rest) ];
+
+        return hash;
+    }
+
+    public static long hashStock( long a_stock ){
+        long hash = 0L;
+
+        for(long rest = a_stock; rest != TileSet.EMPTY; rest &= rest - 1)
+            hash ^= STOCK[ Long.numberOfTrailingZeros(rest) ];
+
+        return hash;
+    }
+}